@@ -0,0 +1,52 @@
+package com.example.automation.reporting;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * startStep/recordResponseTime/completeStep as the step classes call them, single-threaded
+ * and with 4 threads contending on the shared collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceTrackerBenchmark {
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        PerformanceTracker.clearMetrics();
+    }
+
+    @Benchmark
+    public String trackStep() {
+        return track();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String trackStepContended() {
+        return track();
+    }
+
+    private static String track() {
+        long actionStartTime = System.currentTimeMillis();
+        String stepId = PerformanceTracker.startStep("Click ACM", "Click on ACM in the sidebar", "click");
+        PerformanceTracker.recordResponseTime(stepId, actionStartTime);
+        PerformanceTracker.completeStep(stepId, actionStartTime, actionStartTime + 120, actionStartTime + 480);
+        return stepId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.automation.reporting;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ACM report pieces and the full ACM page render at 10, 1k and 100k tracked steps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportRenderingBenchmark {
+
+    private static final String[] ACTION_TYPES = {"navigation", "click", "input", "submit"};
+
+    @Param({"10", "1000", "100000"})
+    public int metricCount;
+
+    private Map<String, PerformanceTracker.PerformanceMetric> metrics;
+    private List<String> executionOrder;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            PerformanceTracker.clearMetrics();
+            TestResultsCollector.clearResults();
+            long start = System.currentTimeMillis() - metricCount * 1000L;
+            for (int i = 0; i < metricCount; i++) {
+                String status = i % 50 == 0 ? "FAILED" : "PASSED";
+                PerformanceTracker.recordStep("ACM Step " + (i % 25), "Synthetic ACM step " + i,
+                    ACTION_TYPES[i % ACTION_TYPES.length], status, 200 + (i * 37L) % 5000, start + i * 1000L);
+                if (i % 10 == 0) {
+                    TestResultsCollector.recordTestResult("ACM Test " + i, status, 1500, "ACM", "<synthetic>", 300, 1200);
+                }
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+        metrics = PerformanceTracker.getAllMetrics();
+        executionOrder = PerformanceTracker.getExecutionOrder();
+    }
+
+    @Benchmark
+    public String performanceDataJson() {
+        return AcmHtmlReportGenerator.generatePerformanceDataJson(metrics, executionOrder);
+    }
+
+    @Benchmark
+    public String stepTableRows() {
+        return AcmHtmlReportGenerator.generateStepTableRows(metrics, executionOrder);
+    }
+
+    @Benchmark
+    public String fullAcmReport() {
+        return AcmHtmlReportGenerator.generateAcmHtmlContent();
+    }
+}
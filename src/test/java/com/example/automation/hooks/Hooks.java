@@ -1,50 +1,245 @@
 package com.example.automation.hooks;
 
+import com.example.automation.pages.BasePage;
+import com.example.automation.reporting.FlightRecorderSupport;
+import com.example.automation.reporting.LongTaskCollector;
+import com.example.automation.reporting.MemoryCollector;
+import com.example.automation.reporting.MetricsHttpServer;
+import com.example.automation.reporting.OpenMetricsExporter;
+import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.reporting.ResourceTimingCollector;
+import com.example.automation.reporting.RunSnapshot;
+import com.example.automation.reporting.ScenarioHistory;
+import com.example.automation.reporting.TestResultsCollector;
+import com.example.automation.reporting.ThirdPartyImpactCollector;
+import com.example.automation.support.BrowserIsolation;
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.DriverRecycler;
+import com.example.automation.support.FailureArtifactCollector;
+import com.example.automation.support.LatencyInjector;
+import com.example.automation.support.MemoryProbe;
+import com.example.automation.support.RequestBlocker;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.BeforeAll;
+import io.cucumber.java.BeforeStep;
+import io.cucumber.java.Scenario;
+import java.time.Duration;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
 public class Hooks {
 
     private static boolean driverInitialized = false;
+    private static volatile boolean managedRun = false;
+    
+    // Tracked step that was current when the running Cucumber step began
+    private String stepIdBeforeStep;
+    private MemoryCollector.MemorySample memoryBeforeStep;
+    private long scenarioStartTime;
+    private String scenarioRunId;
 
     @BeforeAll
     public static void setUpOnce() {
+        // A warm browser kept across managed runs may have crashed since the last one
+        if (driverInitialized && managedRun && !isDriverResponsive()) {
+            System.err.println("Warm driver is no longer responsive, starting a new one");
+            DriverFactory.recycleDriver();
+        }
+        
         // Initialize driver only once for all scenarios
         if (!driverInitialized) {
             DriverFactory.initDriver();
             driverInitialized = true;
         }
+        
+        // Serve live metrics if -Dperf.metrics.port is set
+        MetricsHttpServer.startIfConfigured();
+        
+        // Record step and wait events if -Dperf.jfr=true
+        FlightRecorderSupport.startIfEnabled();
     }
 
     @Before
-    public void setUp() {
-        // Ensure driver is initialized (fallback if BeforeAll doesn't work)
-        if (!driverInitialized) {
+    public void setUp(Scenario scenario) {
+        scenarioStartTime = System.currentTimeMillis();
+        
+        // Attribute steps started from here on to this scenario and its tags
+        PerformanceTracker.setCurrentScenario(scenario.getName(), scenario.getSourceTagNames());
+        scenarioRunId = TestResultsCollector.beginScenario(scenario.getId());
+        
+        // Ensure driver is initialized (fallback if BeforeAll doesn't work, or a parallel thread has none yet)
+        if (!driverInitialized || DriverFactory.getDriver() == null) {
             DriverFactory.initDriver();
             driverInitialized = true;
         }
         
-        // Clear cookies between scenarios but keep browser open
+        // Give the scenario a clean browser state but keep the browser open
         WebDriver driver = DriverFactory.getDriver();
         if (driver != null) {
-            driver.manage().deleteAllCookies();
-            // Navigate to blank page to reset state
-            driver.navigate().to("about:blank");
+            BrowserIsolation.isolate(driver);
+            BasePage.navigated();
+            // Functional scenarios skip analytics, fonts, video and chat widgets; @performance loads everything
+            RequestBlocker.apply(driver, scenario.getSourceTagNames());
+            // Delay or fail backend routes given in -Dlatency.rules (sensitivity analysis)
+            LatencyInjector.apply(driver);
+        }
+    }
+
+    @BeforeStep
+    public void beforeStep() {
+        stepIdBeforeStep = PerformanceTracker.getCurrentStepId();
+        memoryBeforeStep = null;
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null) return;
+        
+        // Start observing long tasks in the current page and drop what happened before this step
+        if (LongTaskCollector.isEnabled()) {
+            try {
+                ((JavascriptExecutor) driver).executeScript(LongTaskCollector.DRAIN_SCRIPT);
+            } catch (Exception e) {
+                // No page to observe yet
+            }
+        }
+        
+        if (MemoryCollector.isEnabled()) {
+            try {
+                memoryBeforeStep = MemoryProbe.sample(driver, false);
+            } catch (Exception e) {
+                // No page to sample yet
+            }
+        }
+    }
+
+    @AfterStep
+    public void afterStep() {
+        // Only steps that started a tracked step get blocking time and memory attributed
+        String stepId = PerformanceTracker.getCurrentStepId();
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null || stepId == null || stepId.equals(stepIdBeforeStep)) return;
+        
+        if (LongTaskCollector.isEnabled()) {
+            try {
+                Object entries = ((JavascriptExecutor) driver).executeScript(LongTaskCollector.DRAIN_SCRIPT);
+                LongTaskCollector.recordEntries(stepId, entries);
+            } catch (Exception e) {
+                System.err.println("Could not collect long tasks: " + e.getMessage());
+            }
+        }
+        
+        if (MemoryCollector.isEnabled() && memoryBeforeStep != null) {
+            try {
+                MemoryCollector.recordStepSamples(stepId, memoryBeforeStep, MemoryProbe.sample(driver, false));
+            } catch (Exception e) {
+                System.err.println("Could not sample page memory: " + e.getMessage());
+            }
         }
     }
 
     @After
-    public void tearDown() {
+    public void tearDown(Scenario scenario) {
         // Don't quit driver after each scenario - keep it open for next scenario
-        // Just clear any temporary state if needed
+        WebDriver driver = DriverFactory.getDriver();
+        
+        // Grab the failure state before anything else touches the page
+        if (scenario.isFailed() && driver != null) {
+            captureFailureArtifacts(driver, scenario);
+        }
+        
+        // Durations and outcomes feed the shard planner and scheduler of later runs
+        ScenarioHistory.recordScenario(ScenarioHistory.locationOf(scenario.getUri(), scenario.getLine()),
+            System.currentTimeMillis() - scenarioStartTime, scenario.isFailed());
+        
+        // Capture resource timings of the page the scenario ended on for run-to-run comparison
+        if (driver != null) {
+            try {
+                Object entries = ((JavascriptExecutor) driver).executeScript(
+                    "return performance.getEntriesByType('resource').map(function(r) {" +
+                    "  return {name: r.name, initiatorType: r.initiatorType," +
+                    "          transferSize: r.transferSize || 0, duration: Math.round(r.duration)};" +
+                    "});");
+                ResourceTimingCollector.recordEntries(entries);
+            } catch (Exception e) {
+                System.err.println("Could not capture resource timings: " + e.getMessage());
+            }
+        }
+        
+        // Load time, LCP and third-party origins per run of the third-party impact experiment
+        if (driver != null && ThirdPartyImpactCollector.isEnabled()) {
+            try {
+                Object page = ((JavascriptExecutor) driver).executeAsyncScript(ThirdPartyImpactCollector.PAGE_SCRIPT);
+                ThirdPartyImpactCollector.recordPage(scenario.getName(), scenarioRunId, scenario.isFailed(), page);
+            } catch (Exception e) {
+                System.err.println("Could not measure page for third-party impact: " + e.getMessage());
+            }
+        }
+        
+        // Sample browser memory; a browser past its scenario or memory budget is replaced before the next scenario
+        DriverRecycler.afterScenario(scenario.getName());
+    }
+
+    private void captureFailureArtifacts(WebDriver driver, Scenario scenario) {
+        String artifactsPath = FailureArtifactCollector.capture(driver, scenario.getName());
+        if (artifactsPath == null) return;
+        
+        // Link to the results the scenario recorded, or record one if it failed before reaching any
+        if (TestResultsCollector.attachArtifacts(scenarioRunId, artifactsPath) == 0) {
+            String category = TestResultsCollector.categoryForTags(scenario.getSourceTagNames(), "Failure");
+            TestResultsCollector.recordTestResult(scenario.getName(), "FAILED",
+                System.currentTimeMillis() - scenarioStartTime, category, "Scenario failed at " + scenario.getLine());
+            TestResultsCollector.attachArtifacts(scenarioRunId, artifactsPath);
+        }
     }
 
     @AfterAll
     public static void tearDownOnce() {
+        // A long-running caller (e.g. MonitorDaemon) keeps the browser warm and owns report generation
+        if (managedRun) return;
+        
+        generateReports();
+        MetricsHttpServer.stop();
+        
+        // Quit driver only once at the end of all scenarios
+        releaseDriver();
+    }
+
+    /**
+     * Mark runs as driven by a long-lived caller, so @AfterAll leaves the driver and metrics endpoint up
+     */
+    public static void setManagedRun(boolean managed) {
+        managedRun = managed;
+    }
+
+    private static boolean isDriverResponsive() {
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null) return false;
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quit the shared driver; used by managed runs when they shut down
+     */
+    public static void releaseDriver() {
+        if (driverInitialized) {
+            DriverFactory.quitDriver();
+            driverInitialized = false;
+        }
+    }
+
+    /**
+     * Generate the HTML reports, run snapshot and metrics export from the collectors' current state
+     */
+    public static void generateReports() {
+        // Reports link to failure artifacts, so let queued writes land first
+        FailureArtifactCollector.awaitPendingWrites(Duration.ofSeconds(30));
+        
         // Generate custom HTML report
         try {
             com.example.automation.reporting.CustomHtmlReportGenerator.generateCustomReport();
@@ -73,11 +268,14 @@ public class Hooks {
             System.err.println("Failed to generate ARefresh report: " + e.getMessage());
         }
         
-        // Quit driver only once at the end of all scenarios
-        if (driverInitialized) {
-            DriverFactory.quitDriver();
-            driverInitialized = false;
-        }
+        // Persist this run so it can be diffed against later runs
+        RunSnapshot.writeCurrentRun();
+        ScenarioHistory.writeCurrentRun();
+        
+        // Export scrapeable metrics for synthetic monitoring
+        OpenMetricsExporter.writeMetricsFile();
+        
+        // Write the flight recording, if this run started one
+        FlightRecorderSupport.stopAndDump();
     }
 }
-
@@ -0,0 +1,33 @@
+package com.example.automation.pages;
+
+import com.example.automation.support.LocatorRegistry;
+import java.time.Duration;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * ACM (credit management) section of the workspace.
+ */
+public class AcmPage extends BasePage {
+
+    public AcmPage(WebDriver driver) {
+        super(driver);
+    }
+
+    /**
+     * Refresh button, located by racing its known selectors
+     */
+    public WebElement refreshButton(Duration budget) {
+        return resolved(element("refresh-button", driver -> LocatorRegistry.find(driver, "acm.refresh-button", budget,
+            LocatorRegistry.Strategy.xpath("data-slot-text", "//button[@data-slot='button' and contains(., 'Refresh')]"),
+            LocatorRegistry.Strategy.xpath("text", "//button[contains(., 'Refresh')]"),
+            LocatorRegistry.Strategy.cssWithText("data-slot-filter", "button[data-slot='button']", "Refresh"))));
+    }
+
+    /**
+     * Page has rendered substantial content
+     */
+    public boolean hasContent() {
+        return bodyText().length() > 100;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.automation.pages;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Base for the Yuba page objects. Elements are exposed as lazy handles: the first call on a handle
+ * locates the element, later calls reuse it until the page state changes (navigated() was called on
+ * this thread) or the element goes stale, in which case it is located once more.
+ */
+public abstract class BasePage {
+
+    public static final By BODY = By.tagName("body");
+
+    // Bumped on every navigation so handles cached for the previous document are dropped
+    private static final ThreadLocal<long[]> NAVIGATION_EPOCH = ThreadLocal.withInitial(() -> new long[1]);
+
+    protected final WebDriver driver;
+    private final Map<String, WebElement> handles = new HashMap<>();
+
+    protected BasePage(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Mark that the browser moved to a new document; cached handles of all pages on this thread are invalidated
+     */
+    public static void navigated() {
+        NAVIGATION_EPOCH.get()[0]++;
+    }
+
+    /**
+     * The page body; cached like any other handle
+     */
+    public WebElement body() {
+        return element(BODY);
+    }
+
+    /**
+     * Visible text of the page body, one driver round trip
+     */
+    public String bodyText() {
+        return body().getText();
+    }
+
+    public void scrollIntoView(WebElement element) {
+        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
+    }
+
+    public boolean isDocumentComplete() {
+        return "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState"));
+    }
+
+    /**
+     * Lazy, cached handle for the first element matching the locator
+     */
+    protected WebElement element(By locator) {
+        return handles.computeIfAbsent(locator.toString(),
+            key -> handle(locator.toString(), driver -> driver.findElement(locator)));
+    }
+
+    /**
+     * Lazy, cached handle resolved by a custom lookup (e.g. several candidate locators)
+     */
+    protected WebElement element(String name, Function<WebDriver, WebElement> lookup) {
+        return handles.computeIfAbsent(name, key -> handle(name, lookup));
+    }
+
+    /**
+     * Resolve a lazy handle now, so lookup failures surface at the call site
+     */
+    protected WebElement resolved(WebElement handle) {
+        ((WrapsElement) handle).getWrappedElement();
+        return handle;
+    }
+
+    /**
+     * Wait condition met once the handle's lookup finds the element; the handle keeps it, so the wait
+     * is the only lookup
+     */
+    public static ExpectedCondition<WebElement> presenceOf(WebElement handle) {
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                ((WrapsElement) handle).getWrappedElement();
+                return handle;
+            }
+
+            @Override
+            public String toString() {
+                return "presence of " + handle;
+            }
+        };
+    }
+
+    private WebElement handle(String name, Function<WebDriver, WebElement> lookup) {
+        return (WebElement) Proxy.newProxyInstance(
+            BasePage.class.getClassLoader(),
+            new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+            new CachedElementHandler(name, lookup));
+    }
+
+    private final class CachedElementHandler implements InvocationHandler {
+        private final String name;
+        private final Function<WebDriver, WebElement> lookup;
+        private WebElement resolved;
+        private long resolvedEpoch = -1;
+
+        CachedElementHandler(String name, Function<WebDriver, WebElement> lookup) {
+            this.name = name;
+            this.lookup = lookup;
+        }
+
+        private WebElement resolve(boolean force) {
+            long epoch = NAVIGATION_EPOCH.get()[0];
+            if (force || resolved == null || resolvedEpoch != epoch) {
+                resolved = lookup.apply(driver);
+                resolvedEpoch = epoch;
+            }
+            return resolved;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Lazy handle [" + name + "]";
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return resolve(false);
+            }
+            try {
+                return invokeOn(resolve(false), method, args);
+            } catch (StaleElementReferenceException e) {
+                // Re-rendered or navigated without notice: locate again once
+                return invokeOn(resolve(true), method, args);
+            }
+        }
+
+        private Object invokeOn(WebElement target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.automation.pages;
+
+import com.example.automation.support.SiteConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Workspace picker shown after sign-in.
+ */
+public class ChooseWorkspacePage extends BasePage {
+
+    public static final By CONTINUE_BUTTON = By.xpath("/html/body/div[1]/div/div/div[3]/button[1]");
+
+    public ChooseWorkspacePage(WebDriver driver) {
+        super(driver);
+    }
+
+    public static String url() {
+        return SiteConfig.url("/choose-workspace");
+    }
+
+    public static boolean isAt(String url) {
+        return url.contains("choose-workspace") || url.equals(url());
+    }
+
+    public WebElement continueButton() {
+        return element(CONTINUE_BUTTON);
+    }
+
+    /**
+     * Workspace options rendered and the loading message gone (or plenty of content already)
+     */
+    public boolean isLoaded() {
+        String bodyText = bodyText().toLowerCase();
+        boolean hasWorkspaceContent = bodyText.contains("choose your workspace") ||
+                                      bodyText.contains("select a workspace") ||
+                                      bodyText.contains("workspace") ||
+                                      bodyText.contains("continue");
+        boolean loadingGone = !bodyText.contains("loading your workspaces");
+        boolean pageReady = (hasWorkspaceContent && loadingGone) || bodyText.length() > 200;
+        if (!pageReady) {
+            System.out.println("Waiting for workspace page to load... Body length: " + bodyText.length());
+        }
+        return pageReady;
+    }
+
+    /**
+     * First characters of the body text, for diagnostics
+     */
+    public String bodyPreview(int maxLength) {
+        String bodyText = bodyText();
+        return bodyText.substring(0, Math.min(maxLength, bodyText.length()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.automation.pages;
+
+import java.util.List;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Workspace dashboard with the sidebar navigation and the invite form.
+ */
+public class DashboardPage extends BasePage {
+
+    public static final By INDIVIDUAL_EMAIL = By.xpath("//*[@id='individual-email']");
+
+    private static final By LOADING_INDICATORS = By.xpath(
+        "//*[contains(@class, 'loading') or contains(@class, 'spinner') or " +
+        "contains(@class, 'loader') or contains(@id, 'loading') or " +
+        "contains(text(), 'Loading') or contains(text(), 'Please wait')]");
+
+    private static final By CONTENT_ELEMENTS = By.xpath(
+        "//*[contains(@class, 'dashboard') or contains(@class, 'workspace') or " +
+        "contains(@class, 'main-content') or contains(@class, 'content') or " +
+        "contains(@class, 'app-content') or contains(@class, 'page-content') or " +
+        "contains(@id, 'dashboard') or contains(@id, 'main') or contains(@id, 'content') or " +
+        ".//nav or .//header or .//sidebar or .//menu or " +
+        ".//table or .//div[contains(@class, 'card')] or .//div[contains(@class, 'widget')]" +
+        "]");
+
+    public DashboardPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public WebElement individualEmailField() {
+        return element(INDIVIDUAL_EMAIL);
+    }
+
+    /**
+     * Loading indicators currently in the DOM; these change while the page loads so they are not cached
+     */
+    public List<WebElement> loadingIndicators() {
+        return driver.findElements(LOADING_INDICATORS);
+    }
+
+    public List<WebElement> contentElements() {
+        return driver.findElements(CONTENT_ELEMENTS);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.automation.pages;
+
+import com.example.automation.support.SiteConfig;
+import java.util.List;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Yuba marketing homepage.
+ */
+public class HomePage extends BasePage {
+
+    private static final List<By> SIGN_IN_CANDIDATES = List.of(
+        By.linkText("Sign In"),
+        By.linkText("Sign in"),
+        By.partialLinkText("Sign In"),
+        By.partialLinkText("Sign in"),
+        By.xpath("//a[contains(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'), 'signin')]"),
+        By.xpath("//a[contains(translate(@href, 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'), 'sign-in')]"),
+        By.xpath("//*[self::a or self::button][contains(translate(normalize-space(.), 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'), 'sign in')]")
+    );
+
+    public HomePage(WebDriver driver) {
+        super(driver);
+    }
+
+    /**
+     * Homepage of the deployment under test (see SiteConfig)
+     */
+    public static String url() {
+        return SiteConfig.url("/");
+    }
+
+    public void open() {
+        driver.navigate().to(url());
+        navigated();
+    }
+
+    /**
+     * Sign In link or button, whichever candidate locator matches first
+     */
+    public WebElement signInLink() {
+        return element("sign-in", driver -> {
+            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight / 2);");
+            for (By locator : SIGN_IN_CANDIDATES) {
+                List<WebElement> matches = driver.findElements(locator);
+                if (!matches.isEmpty()) {
+                    return matches.get(0);
+                }
+            }
+            throw new NoSuchElementException("Unable to find the Sign In button on the page.");
+        });
+    }
+}
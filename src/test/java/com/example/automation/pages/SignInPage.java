@@ -0,0 +1,36 @@
+package com.example.automation.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Yuba sign-in form.
+ */
+public class SignInPage extends BasePage {
+
+    public static final By EMAIL = By.xpath("//*[@id='email']");
+    public static final By PASSWORD = By.xpath("//*[@id='password']");
+    public static final By SUBMIT = By.xpath("/html/body/div[1]/div/div/div[1]/div/div/div[2]/form/div/div[4]/button");
+
+    public SignInPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public WebElement emailField() {
+        return element(EMAIL);
+    }
+
+    public WebElement passwordField() {
+        return element(PASSWORD);
+    }
+
+    public WebElement submitButton() {
+        return element(SUBMIT);
+    }
+
+    public boolean hasSignInText() {
+        String bodyText = bodyText().toLowerCase();
+        return bodyText.contains("sign in") || bodyText.contains("log in") || bodyText.contains("login");
+    }
+}
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ARefreshHtmlReportGenerator {
 
@@ -766,6 +767,9 @@ public class ARefreshHtmlReportGenerator {
                 </div>
             </div>
             
+            MEMORY_SECTION
+            PROCESS_MEMORY_SECTION
+            
             <div class="test-section">
                 <h2 class="section-title">📋 Detailed Performance Metrics</h2>
                 <table class="performance-table">
@@ -975,6 +979,9 @@ public class ARefreshHtmlReportGenerator {
         html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
         html = html.replace("PERF_DATA_JSON", performanceDataJson);
         html = html.replace("PERF_TABLE_ROWS", stepTableRows);
+        html = html.replace("PROCESS_MEMORY_SECTION", ProcessMemoryCollector.renderSection());
+        html = html.replace("MEMORY_SECTION", MemoryCollector.renderSection(
+            stepName -> stepName.toLowerCase().contains("refresh"), "ARefresh"));
         html = html.replace("TEST_RESULT_ROWS", testResultRows);
         // Replace longer placeholders first
         html = html.replace("PERF_DATA_TOTAL_SCENARIOS", String.valueOf(totalScenarios));
@@ -1004,12 +1011,10 @@ public class ARefreshHtmlReportGenerator {
         json.append("{\n");
         json.append("  stepLabels: [");
         
-        List<String> labels = executionOrder.stream()
-            .map(id -> {
-                PerformanceTracker.PerformanceMetric m = metrics.get(id);
-                return m != null ? "\"Step " + (executionOrder.indexOf(id) + 1) + "\"" : null;
-            })
-            .filter(l -> l != null)
+        // Label by position; indexOf per element made this quadratic in the step count
+        List<String> labels = IntStream.range(0, executionOrder.size())
+            .filter(i -> metrics.get(executionOrder.get(i)) != null)
+            .mapToObj(i -> "\"Step " + (i + 1) + "\"")
             .collect(Collectors.toList());
         json.append(String.join(", ", labels));
         json.append("],\n");
@@ -1103,7 +1108,13 @@ public class ARefreshHtmlReportGenerator {
             rows.append("<td><span class='status-badge ").append(statusClass).append("'>")
                 .append(statusIcon).append(" ").append(result.status).append("</span></td>");
             rows.append("<td>").append(String.format("%.3f", result.duration / 1000.0)).append("s</td>");
-            rows.append("<td>").append(escapeHtml(result.details)).append("</td>");
+            rows.append("<td>").append(escapeHtml(result.details));
+            if (result.artifactsPath != null) {
+                rows.append(" <a href='").append(escapeHtml(result.artifactsPath))
+                    .append("/screenshot.png'>📎 screenshot</a> <a href='").append(escapeHtml(result.artifactsPath))
+                    .append("/'>artifacts</a>");
+            }
+            rows.append("</td>");
             rows.append("</tr>");
         }
         
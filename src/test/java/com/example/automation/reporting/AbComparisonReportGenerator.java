@@ -0,0 +1,337 @@
+package com.example.automation.reporting;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Renders an interleaved A/B comparison (see AbComparisonRunner): per step, the mean time on each
+ * side, the mean paired difference B - A and its two-sided p-value from a sign-flip permutation test
+ * over the pairs (exact up to 16 pairs, 20000 random flips above). Steps that failed on either side
+ * of a pair drop that pair. Since every step is tested, a step is only called significant when its
+ * Holm-Bonferroni adjusted p-value is below the significance level, which keeps the chance of any
+ * false verdict in the report at that level.
+ */
+public class AbComparisonReportGenerator {
+
+    public static final Path DEFAULT_OUTPUT = Paths.get("target/custom-reports/ab_comparison_report.html");
+
+    private static final double ALPHA = Double.parseDouble(System.getProperty("ab.alpha", "0.05"));
+    private static final int EXACT_PAIRS = 16;
+    private static final int RANDOM_FLIPS = 20000;
+
+    /**
+     * Paired times of one step over the pairs where it passed on both sides
+     */
+    private static class StepComparison {
+        String stepName;
+        int pairs;
+        double meanA;
+        double meanB;
+        double delta;
+        double pValue;
+    }
+
+    public static void generateReport(String baseUrlA, String baseUrlB, List<Map<String, Long>> runsA,
+                                      List<Map<String, Long>> runsB, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (FileWriter writer = new FileWriter(output.toFile())) {
+            writer.write(generateHtmlContent(baseUrlA, baseUrlB, runsA, runsB));
+        }
+
+        System.out.println("A/B comparison report generated: " + output);
+    }
+
+    private static String generateHtmlContent(String baseUrlA, String baseUrlB, List<Map<String, Long>> runsA,
+                                              List<Map<String, Long>> runsB) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+
+        Set<String> stepNames = new LinkedHashSet<>();
+        runsA.forEach(run -> stepNames.addAll(run.keySet()));
+        runsB.forEach(run -> stepNames.addAll(run.keySet()));
+
+        List<StepComparison> comparisons = new ArrayList<>();
+        int pairs = Math.min(runsA.size(), runsB.size());
+        for (String stepName : stepNames) {
+            List<Double> a = new ArrayList<>();
+            List<Double> b = new ArrayList<>();
+            for (int i = 0; i < pairs; i++) {
+                Long timeA = runsA.get(i).get(stepName);
+                Long timeB = runsB.get(i).get(stepName);
+                if (timeA == null || timeB == null) continue;
+                a.add(timeA.doubleValue());
+                b.add(timeB.doubleValue());
+            }
+            if (a.isEmpty()) continue;
+
+            StepComparison comparison = new StepComparison();
+            comparison.stepName = stepName;
+            comparison.pairs = a.size();
+            comparison.meanA = mean(a);
+            comparison.meanB = mean(b);
+            double[] differences = new double[a.size()];
+            for (int i = 0; i < differences.length; i++) {
+                differences[i] = b.get(i) - a.get(i);
+            }
+            comparison.delta = mean(differences);
+            comparison.pValue = signFlipPValue(differences);
+            comparisons.add(comparison);
+        }
+
+        double[] adjusted = holmAdjust(comparisons.stream().mapToDouble(comparison -> comparison.pValue).toArray());
+        StringBuilder rows = new StringBuilder();
+        int slower = 0;
+        int faster = 0;
+        for (int i = 0; i < comparisons.size(); i++) {
+            StepComparison comparison = comparisons.get(i);
+            double delta = comparison.delta;
+            boolean significant = adjusted[i] < ALPHA;
+            if (significant && delta > 0) slower++;
+            if (significant && delta < 0) faster++;
+
+            String cssClass = !significant ? "unchanged" : delta > 0 ? "slower" : "faster";
+            String verdict = !significant ? "No significant difference" : delta > 0 ? "B slower" : "B faster";
+            rows.append("<tr>");
+            rows.append("<td>").append(escapeHtml(comparison.stepName)).append("</td>");
+            rows.append("<td>").append(comparison.pairs).append("</td>");
+            rows.append("<td>").append(String.format("%.0f", comparison.meanA)).append("</td>");
+            rows.append("<td>").append(String.format("%.0f", comparison.meanB)).append("</td>");
+            rows.append("<td class='").append(cssClass).append("'>").append(String.format("%+.0f ms", delta))
+                .append(comparison.meanA > 0 ? String.format(" (%+.1f%%)", delta * 100.0 / comparison.meanA) : "")
+                .append("</td>");
+            rows.append("<td>").append(String.format("%.4f", comparison.pValue)).append("</td>");
+            rows.append("<td>").append(String.format("%.4f", adjusted[i])).append("</td>");
+            rows.append("<td class='").append(cssClass).append("'>").append(verdict).append("</td>");
+            rows.append("</tr>");
+        }
+
+        String html = """
+<!DOCTYPE html>
+<html lang="en">
+<head>
+    <meta charset="UTF-8">
+    <meta name="viewport" content="width=device-width, initial-scale=1.0">
+    <title>Yuba A/B Comparison Report</title>
+    <style>
+        * { margin: 0; padding: 0; box-sizing: border-box; }
+        body {
+            font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', 'Helvetica Neue', sans-serif;
+            line-height: 1.6;
+            color: #2c3e50;
+            background: #f5f7fa;
+        }
+        .container { max-width: 1400px; margin: 0 auto; padding: 40px 20px; }
+        .header {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 40px;
+            margin-bottom: 30px;
+            box-shadow: 0 2px 8px rgba(0, 0, 0, 0.08);
+            border-left: 4px solid #f59e0b;
+        }
+        .header h1 { color: #1a1a1a; font-size: 2em; font-weight: 600; }
+        .header .subtitle, .header .timestamp { color: #64748b; }
+        .stats-grid {
+            display: grid;
+            grid-template-columns: repeat(auto-fit, minmax(220px, 1fr));
+            gap: 20px;
+            margin-bottom: 30px;
+        }
+        .stat-card {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 24px;
+            text-align: center;
+            border: 1px solid #e2e8f0;
+        }
+        .stat-number { font-size: 2em; font-weight: 600; }
+        .stat-label { color: #64748b; font-size: 0.875em; text-transform: uppercase; }
+        .test-section {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 28px;
+            margin-bottom: 24px;
+            border: 1px solid #e2e8f0;
+        }
+        .section-title {
+            font-size: 1.4em;
+            color: #1a1a1a;
+            margin-bottom: 16px;
+            padding-bottom: 10px;
+            border-bottom: 2px solid #e2e8f0;
+        }
+        .diff-table { width: 100%; border-collapse: collapse; }
+        .diff-table thead { background: #1e293b; color: #ffffff; }
+        .diff-table th {
+            padding: 12px;
+            text-align: left;
+            font-weight: 600;
+            text-transform: uppercase;
+            font-size: 0.8em;
+        }
+        .diff-table td { padding: 10px 12px; border-bottom: 1px solid #ecf0f1; font-size: 0.9em; }
+        .diff-table tbody tr:hover { background: #f8f9fa; }
+        .slower { color: #e74c3c; font-weight: 600; }
+        .faster { color: #27ae60; font-weight: 600; }
+        .unchanged { color: #64748b; }
+    </style>
+</head>
+<body>
+    <div class="container">
+        <div class="header">
+            <h1>A/B Comparison Report</h1>
+            <div class="subtitle">A: BASE_URL_A &nbsp;|&nbsp; B: BASE_URL_B</div>
+            <div class="timestamp">Generated on: TIMESTAMP_PLACEHOLDER</div>
+        </div>
+
+        <div class="stats-grid">
+            <div class="stat-card">
+                <div class="stat-number">AB_PAIR_COUNT</div>
+                <div class="stat-label">Interleaved Pairs</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number slower">AB_SLOWER_COUNT</div>
+                <div class="stat-label">Steps Slower on B</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number faster">AB_FASTER_COUNT</div>
+                <div class="stat-label">Steps Faster on B</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">AB_ALPHA</div>
+                <div class="stat-label">Significance Level</div>
+            </div>
+        </div>
+
+        <div class="test-section">
+            <h2 class="section-title">⚖️ Per-Step Differences (B - A, paired)</h2>
+            <table class="diff-table">
+                <thead>
+                    <tr>
+                        <th>Step Name</th>
+                        <th>Pairs</th>
+                        <th>Mean A (ms)</th>
+                        <th>Mean B (ms)</th>
+                        <th>Δ Mean</th>
+                        <th>p-value</th>
+                        <th>Holm p</th>
+                        <th>Verdict</th>
+                    </tr>
+                </thead>
+                <tbody>
+                    AB_STEP_ROWS
+                </tbody>
+            </table>
+        </div>
+    </div>
+</body>
+</html>
+""";
+
+        html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
+        html = html.replace("BASE_URL_A", escapeHtml(baseUrlA));
+        html = html.replace("BASE_URL_B", escapeHtml(baseUrlB));
+        html = html.replace("AB_PAIR_COUNT", String.valueOf(pairs));
+        html = html.replace("AB_SLOWER_COUNT", String.valueOf(slower));
+        html = html.replace("AB_FASTER_COUNT", String.valueOf(faster));
+        html = html.replace("AB_ALPHA", String.valueOf(ALPHA));
+        html = html.replace("AB_STEP_ROWS", rows.length() == 0
+            ? "<tr><td colspan='8' style='text-align: center; padding: 30px; color: #64748b;'>No step passed on both sides of any pair.</td></tr>"
+            : rows.toString());
+        return html;
+    }
+
+    /**
+     * Two-sided p-value for a zero mean paired difference: under the null each difference is equally
+     * likely to have either sign, so count sign assignments with a mean at least as extreme
+     */
+    static double signFlipPValue(double[] differences) {
+        int n = differences.length;
+        double observed = Math.abs(mean(differences)) - 1e-9;
+        long extreme = 0;
+        long total;
+        if (n <= EXACT_PAIRS) {
+            total = 1L << n;
+            for (long mask = 0; mask < total; mask++) {
+                if (Math.abs(flippedMean(differences, mask)) >= observed) extreme++;
+            }
+        } else {
+            // Fixed seed so re-rendering the same data gives the same p-value
+            Random random = new Random(42);
+            total = RANDOM_FLIPS;
+            for (int i = 0; i < RANDOM_FLIPS; i++) {
+                double sum = 0;
+                for (double difference : differences) {
+                    sum += random.nextBoolean() ? -difference : difference;
+                }
+                if (Math.abs(sum / n) >= observed) extreme++;
+            }
+            // Count the observed assignment so the estimate is never 0
+            extreme++;
+            total++;
+        }
+        return (double) extreme / total;
+    }
+
+    /**
+     * Holm-Bonferroni adjusted p-values, in the order given: the k-th smallest p-value is multiplied by
+     * the number of hypotheses not yet rejected (m - k + 1), capped at 1 and never below the previous one
+     */
+    static double[] holmAdjust(double[] pValues) {
+        int m = pValues.length;
+        Integer[] order = new Integer[m];
+        for (int i = 0; i < m; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble(i -> pValues[i]));
+
+        double[] adjusted = new double[m];
+        double running = 0;
+        for (int rank = 0; rank < m; rank++) {
+            int index = order[rank];
+            running = Math.max(running, Math.min(1.0, (m - rank) * pValues[index]));
+            adjusted[index] = running;
+        }
+        return adjusted;
+    }
+
+    private static double flippedMean(double[] differences, long signs) {
+        double sum = 0;
+        for (int i = 0; i < differences.length; i++) {
+            sum += ((signs >>> i) & 1) == 1 ? -differences[i] : differences[i];
+        }
+        return sum / differences.length;
+    }
+
+    private static double mean(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return values.length == 0 ? 0 : sum / values.length;
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.automation.reporting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class AbComparisonReportGeneratorTest {
+
+    @Test
+    void signFlipPValueOfSameSignDifferencesIsTwoOverAllAssignments() {
+        // Only the observed signs and their full flip are as extreme
+        assertThat(AbComparisonReportGenerator.signFlipPValue(new double[] {1, 2, 3, 4, 5}))
+            .isEqualTo(2.0 / 32);
+        assertThat(AbComparisonReportGenerator.signFlipPValue(new double[] {-4, -1, -7, -2, -3, -9}))
+            .isEqualTo(2.0 / 64);
+    }
+
+    @Test
+    void signFlipPValueIsOneWithoutDifferences() {
+        assertThat(AbComparisonReportGenerator.signFlipPValue(new double[] {0, 0, 0})).isEqualTo(1.0);
+        assertThat(AbComparisonReportGenerator.signFlipPValue(new double[] {5})).isEqualTo(1.0);
+    }
+
+    @Test
+    void signFlipPValueAboveExactPairsIsSmallButNeverZero() {
+        double[] differences = new double[20];
+        Arrays.fill(differences, 10);
+        double pValue = AbComparisonReportGenerator.signFlipPValue(differences);
+        assertThat(pValue).isGreaterThan(0).isLessThan(0.001);
+        assertThat(AbComparisonReportGenerator.signFlipPValue(differences)).isEqualTo(pValue);
+    }
+
+    @Test
+    void holmAdjustMultipliesByRemainingHypothesesInInputOrder() {
+        double[] adjusted = AbComparisonReportGenerator.holmAdjust(new double[] {0.04, 0.01, 0.03, 0.5});
+        // 0.01 * 4, 0.03 * 3, then 0.04 * 2 = 0.08 raised to 0.09 to stay monotone, 0.5 * 1
+        assertThat(adjusted[0]).isCloseTo(0.09, within(1e-12));
+        assertThat(adjusted[1]).isCloseTo(0.04, within(1e-12));
+        assertThat(adjusted[2]).isCloseTo(0.09, within(1e-12));
+        assertThat(adjusted[3]).isCloseTo(0.5, within(1e-12));
+    }
+
+    @Test
+    void holmAdjustIsCappedAtOneAndMonotone() {
+        double[] raw = {0.6, 0.7, 0.02, 0.3};
+        double[] adjusted = AbComparisonReportGenerator.holmAdjust(raw);
+        assertThat(adjusted).containsExactly(new double[] {1.0, 1.0, 0.08, 0.9}, within(1e-12));
+        for (int i = 0; i < raw.length; i++) {
+            assertThat(adjusted[i]).isGreaterThanOrEqualTo(raw[i]).isLessThanOrEqualTo(1.0);
+            for (int j = 0; j < raw.length; j++) {
+                if (raw[i] <= raw[j]) assertThat(adjusted[i]).isLessThanOrEqualTo(adjusted[j]);
+            }
+        }
+    }
+
+    @Test
+    void holmAdjustOfNoPValuesIsEmpty() {
+        assertThat(AbComparisonReportGenerator.holmAdjust(new double[0])).isEmpty();
+    }
+}
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class AcmHtmlReportGenerator {
 
@@ -32,7 +33,7 @@ public class AcmHtmlReportGenerator {
         }
     }
     
-    private static String generateAcmHtmlContent() {
+    static String generateAcmHtmlContent() {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         
         // Get performance metrics
@@ -765,6 +766,10 @@ public class AcmHtmlReportGenerator {
                 </div>
             </div>
             
+            FILMSTRIP_SECTION
+            
+            BLOCKING_SECTION
+            
             <div class="test-section">
                 <h2 class="section-title">📋 Detailed Performance Metrics</h2>
                 <table class="performance-table">
@@ -974,6 +979,8 @@ public class AcmHtmlReportGenerator {
         html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
         html = html.replace("PERF_DATA_JSON", performanceDataJson);
         html = html.replace("PERF_TABLE_ROWS", stepTableRows);
+        html = html.replace("FILMSTRIP_SECTION", Filmstrip.renderSection(filmstrip -> filmstrip.label.contains("ACM")));
+        html = html.replace("BLOCKING_SECTION", LongTaskCollector.renderSection(stepName -> stepName.contains("ACM")));
         html = html.replace("TEST_RESULT_ROWS", testResultRows);
         // Replace longer placeholders first
         html = html.replace("PERF_DATA_TOTAL_SCENARIOS", String.valueOf(totalScenarios));
@@ -994,7 +1001,7 @@ public class AcmHtmlReportGenerator {
         return html;
     }
     
-    private static String generatePerformanceDataJson(Map<String, PerformanceTracker.PerformanceMetric> metrics, List<String> executionOrder) {
+    static String generatePerformanceDataJson(Map<String, PerformanceTracker.PerformanceMetric> metrics, List<String> executionOrder) {
         if (metrics.isEmpty()) {
             return "{ stepLabels: [], responseTimes: [], loadTimes: [], totalTimes: [] }";
         }
@@ -1003,12 +1010,10 @@ public class AcmHtmlReportGenerator {
         json.append("{\n");
         json.append("  stepLabels: [");
         
-        List<String> labels = executionOrder.stream()
-            .map(id -> {
-                PerformanceTracker.PerformanceMetric m = metrics.get(id);
-                return m != null ? "\"Step " + (executionOrder.indexOf(id) + 1) + "\"" : null;
-            })
-            .filter(l -> l != null)
+        // Label by position; indexOf per element made this quadratic in the step count
+        List<String> labels = IntStream.range(0, executionOrder.size())
+            .filter(i -> metrics.get(executionOrder.get(i)) != null)
+            .mapToObj(i -> "\"Step " + (i + 1) + "\"")
             .collect(Collectors.toList());
         json.append(String.join(", ", labels));
         json.append("],\n");
@@ -1047,7 +1052,7 @@ public class AcmHtmlReportGenerator {
         return json.toString();
     }
     
-    private static String generateStepTableRows(Map<String, PerformanceTracker.PerformanceMetric> metrics, List<String> executionOrder) {
+    static String generateStepTableRows(Map<String, PerformanceTracker.PerformanceMetric> metrics, List<String> executionOrder) {
         if (metrics.isEmpty()) {
             return "<tr><td colspan='7' style='text-align: center; padding: 30px; color: #64748b;'>No performance data available. Run tests to see metrics.</td></tr>";
         }
@@ -1102,7 +1107,13 @@ public class AcmHtmlReportGenerator {
             rows.append("<td><span class='status-badge ").append(statusClass).append("'>")
                 .append(statusIcon).append(" ").append(result.status).append("</span></td>");
             rows.append("<td>").append(String.format("%.3f", result.duration / 1000.0)).append("s</td>");
-            rows.append("<td>").append(escapeHtml(result.details)).append("</td>");
+            rows.append("<td>").append(escapeHtml(result.details));
+            if (result.artifactsPath != null) {
+                rows.append(" <a href='").append(escapeHtml(result.artifactsPath))
+                    .append("/screenshot.png'>📎 screenshot</a> <a href='").append(escapeHtml(result.artifactsPath))
+                    .append("/'>artifacts</a>");
+            }
+            rows.append("</td>");
             rows.append("</tr>");
         }
         
@@ -0,0 +1,475 @@
+package com.example.automation.reporting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+
+/**
+ * Streaming reader for Cucumber output that feeds TestResultsCollector (one result per scenario)
+ * and PerformanceTracker (one metric per step).
+ *
+ * Supports the legacy JSON formatter output (json:...cucumber.json) and the NDJSON message
+ * stream (message:...cucumber.ndjson). Files are pull-parsed value by value: embedded screenshots
+ * and attachments are skipped rather than collected, so memory stays bounded by the largest single
+ * attachment instead of growing with the file.
+ *
+ * Usage:
+ *   mvn -q exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=com.example.automation.reporting.CucumberJsonReader
+ *       -Dexec.args="target/cucumber-reports/cucumber.json"
+ */
+public class CucumberJsonReader {
+
+    private static final Json JSON = new Json();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: CucumberJsonReader <cucumber.json|cucumber.ndjson>...");
+            System.exit(1);
+        }
+
+        for (String file : args) {
+            int scenarios = read(Paths.get(file));
+            System.out.println("Loaded " + scenarios + " scenario(s) from " + file);
+        }
+
+        // Rebuild the custom reports from the loaded results
+        CustomHtmlReportGenerator.generateCustomReport();
+        SimHtmlReportGenerator.generateSimReport();
+        AcmHtmlReportGenerator.generateAcmReport();
+        ARefreshHtmlReportGenerator.generateARefreshReport();
+    }
+
+    /**
+     * Read a Cucumber JSON or NDJSON file, detected by extension and first character
+     *
+     * @return number of scenarios recorded
+     */
+    public static int read(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(".ndjson") || startsWithObject(path)) {
+            return readMessages(path);
+        }
+        return readJson(path);
+    }
+
+    private static boolean startsWithObject(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (!Character.isWhitespace(c)) return c == '{';
+            }
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // Legacy JSON formatter: [ { feature, elements: [ { scenario, steps: [ { result } ] } ] } ]
+    // ---------------------------------------------------------------------------------------
+
+    /**
+     * Accumulates one scenario's step results while its element is being parsed
+     */
+    private static class ScenarioAccumulator {
+        String name;
+        String type;
+        long line;
+        final List<String> tags = new ArrayList<>();
+        long durationNanos;
+        String status = "PASSED";
+        String errorMessage;
+        int stepCount;
+        long startMillis; // start_timestamp of the test case; 0 if the formatter wrote none
+        long beforeHookNanos;
+        final List<StepResult> steps = new ArrayList<>();
+
+        void addResult(String stepStatus, long nanos, String error) {
+            durationNanos += nanos;
+            if ("failed".equals(stepStatus)) {
+                status = "FAILED";
+                if (errorMessage == null) errorMessage = error;
+            } else if (!"passed".equals(stepStatus) && !"FAILED".equals(status)) {
+                status = "SKIPPED";
+            }
+        }
+    }
+
+    /**
+     * A step result held until its scenario is known to be kept (start time known, not retried)
+     */
+    private static class StepResult {
+        final String name;
+        final String status;
+        final long nanos;
+        final long startMillis; // From the message stream; legacy JSON steps are laid out by recordSteps
+
+        StepResult(String name, String status, long nanos) {
+            this(name, status, nanos, 0);
+        }
+
+        StepResult(String name, String status, long nanos, long startMillis) {
+            this.name = name;
+            this.status = status;
+            this.nanos = nanos;
+            this.startMillis = startMillis;
+        }
+    }
+
+    private static int readJson(Path path) throws IOException {
+        int scenarios = 0;
+        Set<String> seenNames = new HashSet<>();
+        // Only for output without start_timestamp: lay scenarios end to end from the file time
+        long fallbackStart = Files.getLastModifiedTime(path).toMillis();
+
+        try (BufferedReader reader = Files.newBufferedReader(path);
+             JsonInput input = JSON.newInput(reader)) {
+            input.beginArray();
+            while (input.hasNext()) {
+                input.beginObject();
+                ScenarioAccumulator background = null;
+                while (input.hasNext()) {
+                    if (!"elements".equals(input.nextName())) {
+                        input.skipValue();
+                        continue;
+                    }
+                    input.beginArray();
+                    while (input.hasNext()) {
+                        ScenarioAccumulator scenario = readElement(input);
+                        if ("background".equals(scenario.type)) {
+                            background = scenario;
+                            continue;
+                        }
+                        if (background != null) {
+                            // Background steps run after the scenario's before hooks, ahead of its own steps
+                            scenario.durationNanos += background.durationNanos;
+                            scenario.steps.addAll(0, background.steps);
+                            scenario.stepCount += background.stepCount;
+                            background = null;
+                        }
+                        long start = scenario.startMillis > 0 ? scenario.startMillis : fallbackStart;
+                        recordSteps(scenario, start);
+                        fallbackStart = start + scenario.durationNanos / 1_000_000;
+                        recordScenario(scenario, seenNames);
+                        scenarios++;
+                    }
+                    input.endArray();
+                }
+                input.endObject();
+            }
+            input.endArray();
+        }
+        return scenarios;
+    }
+
+    private static ScenarioAccumulator readElement(JsonInput input) {
+        ScenarioAccumulator scenario = new ScenarioAccumulator();
+        input.beginObject();
+        while (input.hasNext()) {
+            String name = input.nextName();
+            switch (name) {
+                case "name":
+                    scenario.name = input.nextString();
+                    break;
+                case "type":
+                    scenario.type = input.nextString();
+                    break;
+                case "line":
+                    scenario.line = input.nextNumber().longValue();
+                    break;
+                case "start_timestamp":
+                    scenario.startMillis = parseTimestamp(input.nextString());
+                    break;
+                case "tags":
+                    input.beginArray();
+                    while (input.hasNext()) {
+                        Map<String, Object> tag = input.read(Json.MAP_TYPE);
+                        scenario.tags.add(String.valueOf(tag.get("name")));
+                    }
+                    input.endArray();
+                    break;
+                case "before":
+                case "after":
+                case "steps":
+                    input.beginArray();
+                    while (input.hasNext()) {
+                        readStep(input, scenario, name);
+                    }
+                    input.endArray();
+                    break;
+                default:
+                    input.skipValue();
+            }
+        }
+        input.endObject();
+        return scenario;
+    }
+
+    /**
+     * Read one step or hook; embeddings/output are skipped and not kept
+     */
+    private static void readStep(JsonInput input, ScenarioAccumulator scenario, String section) {
+        String stepName = "";
+        String stepStatus = "undefined";
+        long nanos = 0;
+        String error = null;
+
+        input.beginObject();
+        while (input.hasNext()) {
+            String name = input.nextName();
+            if ("name".equals(name)) {
+                stepName = input.nextString();
+            } else if ("result".equals(name)) {
+                input.beginObject();
+                while (input.hasNext()) {
+                    String field = input.nextName();
+                    if ("status".equals(field)) {
+                        stepStatus = input.nextString();
+                    } else if ("duration".equals(field)) {
+                        nanos = input.nextNumber().longValue();
+                    } else if ("error_message".equals(field) && input.peek() == JsonType.STRING) {
+                        error = input.nextString();
+                    } else {
+                        input.skipValue();
+                    }
+                }
+                input.endObject();
+            } else {
+                input.skipValue();
+            }
+        }
+        input.endObject();
+
+        scenario.addResult(stepStatus, nanos, error);
+        if ("before".equals(section)) {
+            scenario.beforeHookNanos += nanos;
+        } else if ("steps".equals(section)) {
+            scenario.stepCount++;
+            // Bare step text without the Given/When keyword, as the message stream's pickle steps have it
+            scenario.steps.add(new StepResult(stepName.trim(), toStatus(stepStatus), nanos));
+        }
+    }
+
+    /**
+     * Record the scenario's steps, each starting where the hooks and steps before it ended
+     */
+    private static void recordSteps(ScenarioAccumulator scenario, long startMillis) {
+        long offsetNanos = scenario.beforeHookNanos;
+        for (StepResult step : scenario.steps) {
+            PerformanceTracker.recordStep(step.name, scenario.name, "step", step.status,
+                step.nanos / 1_000_000, startMillis + offsetNanos / 1_000_000);
+            offsetNanos += step.nanos;
+        }
+    }
+
+    private static long parseTimestamp(String timestamp) {
+        try {
+            return Instant.parse(timestamp).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------
+    // NDJSON messages: one envelope per line (pickle, testCase, testCaseStarted, ...)
+    // ---------------------------------------------------------------------------------------
+
+    private static class PickleInfo {
+        String name;
+        long line;
+        final List<String> tags = new ArrayList<>();
+        final Map<String, String> stepText = new HashMap<>();
+    }
+
+    private static int readMessages(Path path) throws IOException {
+        int scenarios = 0;
+        Set<String> seenNames = new HashSet<>();
+
+        Map<String, PickleInfo> pickles = new HashMap<>();
+        Map<String, String> testCaseToPickle = new HashMap<>();
+        Map<String, String> testStepToPickleStep = new HashMap<>();
+        Map<String, String> startedToTestCase = new HashMap<>();
+        Map<String, Long> startedAt = new HashMap<>();
+        Map<String, Long> stepStartedAt = new HashMap<>();
+        Map<String, ScenarioAccumulator> running = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path);
+             JsonInput input = JSON.newInput(reader)) {
+            while (input.peek() != JsonType.END) {
+                Map<String, Object> body = null;
+                input.beginObject();
+                String type = input.nextName();
+                switch (type) {
+                    case "pickle":
+                    case "testCase":
+                    case "testCaseStarted":
+                    case "testStepStarted":
+                    case "testStepFinished":
+                    case "testCaseFinished":
+                        body = input.read(Json.MAP_TYPE);
+                        break;
+                    default:
+                        // Attachments carry screenshots and other payloads we never need
+                        input.skipValue();
+                }
+                input.endObject();
+                if (body == null) continue;
+
+                switch (type) {
+                    case "pickle": {
+                        PickleInfo pickle = new PickleInfo();
+                        pickle.name = String.valueOf(body.get("name"));
+                        for (Map<?, ?> tag : maps(body.get("tags"))) {
+                            pickle.tags.add(String.valueOf(tag.get("name")));
+                        }
+                        for (Map<?, ?> step : maps(body.get("steps"))) {
+                            pickle.stepText.put(String.valueOf(step.get("id")), String.valueOf(step.get("text")));
+                        }
+                        pickles.put(String.valueOf(body.get("id")), pickle);
+                        break;
+                    }
+                    case "testCase": {
+                        String testCaseId = String.valueOf(body.get("id"));
+                        testCaseToPickle.put(testCaseId, String.valueOf(body.get("pickleId")));
+                        for (Map<?, ?> step : maps(body.get("testSteps"))) {
+                            if (step.get("pickleStepId") != null) {
+                                testStepToPickleStep.put(String.valueOf(step.get("id")), String.valueOf(step.get("pickleStepId")));
+                            }
+                        }
+                        break;
+                    }
+                    case "testCaseStarted": {
+                        String startedId = String.valueOf(body.get("id"));
+                        String testCaseId = String.valueOf(body.get("testCaseId"));
+                        PickleInfo pickle = pickles.get(testCaseToPickle.get(testCaseId));
+                        ScenarioAccumulator scenario = new ScenarioAccumulator();
+                        scenario.name = pickle != null ? pickle.name : testCaseId;
+                        if (pickle != null) scenario.tags.addAll(pickle.tags);
+                        startedToTestCase.put(startedId, testCaseId);
+                        startedAt.put(startedId, toMillis(body.get("timestamp")));
+                        running.put(startedId, scenario);
+                        break;
+                    }
+                    case "testStepStarted": {
+                        stepStartedAt.put(body.get("testCaseStartedId") + "/" + body.get("testStepId"),
+                            toMillis(body.get("timestamp")));
+                        break;
+                    }
+                    case "testStepFinished": {
+                        String startedId = String.valueOf(body.get("testCaseStartedId"));
+                        Long stepStarted = stepStartedAt.remove(startedId + "/" + body.get("testStepId"));
+                        ScenarioAccumulator scenario = running.get(startedId);
+                        if (scenario == null) break;
+                        Map<?, ?> result = (Map<?, ?>) body.get("testStepResult");
+                        String stepStatus = String.valueOf(result.get("status")).toLowerCase();
+                        long nanos = toNanos(result.get("duration"));
+                        Object message = result.get("message");
+                        scenario.addResult(stepStatus, nanos, message == null ? null : String.valueOf(message));
+
+                        String pickleStepId = testStepToPickleStep.get(String.valueOf(body.get("testStepId")));
+                        if (pickleStepId != null) {
+                            PickleInfo pickle = pickles.get(testCaseToPickle.get(startedToTestCase.get(startedId)));
+                            String text = pickle != null ? pickle.stepText.getOrDefault(pickleStepId, pickleStepId) : pickleStepId;
+                            scenario.stepCount++;
+                            long start = stepStarted != null ? stepStarted : toMillis(body.get("timestamp")) - nanos / 1_000_000;
+                            scenario.steps.add(new StepResult(text, toStatus(stepStatus), nanos, start));
+                        }
+                        break;
+                    }
+                    case "testCaseFinished": {
+                        String startedId = String.valueOf(body.get("testCaseStartedId"));
+                        ScenarioAccumulator scenario = running.remove(startedId);
+                        Long started = startedAt.remove(startedId);
+                        // A retried attempt is replaced by the next one; its steps would skew the averages
+                        if (scenario == null || Boolean.TRUE.equals(body.get("willBeRetried"))) break;
+                        long finished = toMillis(body.get("timestamp"));
+                        if (started != null && finished > started) {
+                            // Wall time includes hooks and anything between steps
+                            scenario.durationNanos = (finished - started) * 1_000_000;
+                        }
+                        for (StepResult step : scenario.steps) {
+                            PerformanceTracker.recordStep(step.name, scenario.name, "step", step.status,
+                                step.nanos / 1_000_000, step.startMillis);
+                        }
+                        recordScenario(scenario, seenNames);
+                        scenarios++;
+                        break;
+                    }
+                    default:
+                        break;
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    // ---------------------------------------------------------------------------------------
+
+    private static void recordScenario(ScenarioAccumulator scenario, Set<String> seenNames) {
+        // Scenario Outline examples share a name; keep each one as its own result
+        String testName = scenario.name;
+        if (!seenNames.add(testName)) {
+            testName = scenario.name + (scenario.line > 0 ? " (line " + scenario.line + ")" : " #" + seenNames.size());
+            seenNames.add(testName);
+        }
+
+        // Inherited feature tags come first, so look for the report tags anywhere in the list
+        String category = TestResultsCollector.categoryForTags(scenario.tags,
+            scenario.tags.isEmpty() ? "Cucumber" : scenario.tags.get(0).replaceFirst("^@", ""));
+        String details = scenario.errorMessage != null
+            ? firstLine(scenario.errorMessage)
+            : scenario.stepCount + " step(s), tags: " + String.join(" ", scenario.tags);
+
+        TestResultsCollector.recordTestResult(testName, scenario.status,
+            scenario.durationNanos / 1_000_000, category, details);
+    }
+
+    private static String toStatus(String cucumberStatus) {
+        switch (cucumberStatus.toLowerCase()) {
+            case "passed":
+                return "PASSED";
+            case "failed":
+                return "FAILED";
+            default:
+                return "SKIPPED";
+        }
+    }
+
+    private static String firstLine(String text) {
+        int newline = text.indexOf('\n');
+        return newline < 0 ? text : text.substring(0, newline);
+    }
+
+    private static List<Map<?, ?>> maps(Object value) {
+        List<Map<?, ?>> maps = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (item instanceof Map) maps.add((Map<?, ?>) item);
+            }
+        }
+        return maps;
+    }
+
+    private static long toNanos(Object duration) {
+        if (!(duration instanceof Map)) return 0;
+        Map<?, ?> map = (Map<?, ?>) duration;
+        long seconds = map.get("seconds") instanceof Number ? ((Number) map.get("seconds")).longValue() : 0;
+        long nanos = map.get("nanos") instanceof Number ? ((Number) map.get("nanos")).longValue() : 0;
+        return seconds * 1_000_000_000L + nanos;
+    }
+
+    private static long toMillis(Object timestamp) {
+        return toNanos(timestamp) / 1_000_000;
+    }
+}
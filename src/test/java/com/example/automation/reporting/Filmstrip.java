@@ -0,0 +1,190 @@
+package com.example.automation.reporting;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.imageio.ImageIO;
+
+/**
+ * Screenshots of one page transition at a fixed cadence, with Speed Index and visually-complete time
+ * computed from them after the capture. Visual progress of a frame is how far its color histogram has
+ * moved from the first frame towards the last one, as in Speedline/WebPageTest.
+ */
+public class Filmstrip {
+
+    public static final Path REPORT_DIR = Paths.get("target/custom-reports");
+
+    // JPEG noise keeps identical frames from matching exactly
+    private static final double COMPLETE_PROGRESS = 0.995;
+    private static final int THUMBNAILS = 10;
+
+    private static final List<Filmstrip> filmstrips = Collections.synchronizedList(new ArrayList<>());
+
+    public static class Frame {
+        public final long offset; // ms since the transition started
+        public final String path; // relative to REPORT_DIR
+        public double visualProgress;
+
+        public Frame(long offset, String path) {
+            this.offset = offset;
+            this.path = path;
+        }
+    }
+
+    public final String label;
+    public final long startTime;
+    public final List<Frame> frames;
+    public long speedIndex = -1;
+    public long visuallyComplete = -1;
+
+    public Filmstrip(String label, long startTime, List<Frame> frames) {
+        this.label = label;
+        this.startTime = startTime;
+        this.frames = frames;
+    }
+
+    /**
+     * Compute visual progress per frame, Speed Index and visually-complete time from the frame files
+     */
+    public void analyze() throws IOException {
+        if (frames.isEmpty()) return;
+
+        List<int[][]> histograms = new ArrayList<>();
+        for (Frame frame : frames) {
+            BufferedImage image = ImageIO.read(REPORT_DIR.resolve(frame.path).toFile());
+            if (image == null) throw new IOException("Unreadable frame " + frame.path);
+            histograms.add(histogram(image));
+        }
+
+        int[][] first = histograms.get(0);
+        int[][] last = histograms.get(histograms.size() - 1);
+        for (int i = 0; i < frames.size(); i++) {
+            frames.get(i).visualProgress = progress(first, histograms.get(i), last);
+        }
+
+        // Area above the visual progress curve, from the start of the transition to the last frame
+        double area = 0;
+        long previousOffset = 0;
+        double previousProgress = 0;
+        for (Frame frame : frames) {
+            long offset = Math.max(frame.offset, previousOffset);
+            area += (1 - previousProgress) * (offset - previousOffset);
+            previousOffset = offset;
+            previousProgress = frame.visualProgress;
+        }
+        speedIndex = Math.round(area);
+
+        visuallyComplete = frames.get(frames.size() - 1).offset;
+        for (int i = frames.size() - 1; i >= 0 && frames.get(i).visualProgress >= COMPLETE_PROGRESS; i--) {
+            visuallyComplete = Math.max(0, frames.get(i).offset);
+        }
+    }
+
+    private static int[][] histogram(BufferedImage image) {
+        int[][] histogram = new int[3][256];
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int rgb = image.getRGB(x, y);
+                histogram[0][(rgb >> 16) & 0xff]++;
+                histogram[1][(rgb >> 8) & 0xff]++;
+                histogram[2][rgb & 0xff]++;
+            }
+        }
+        return histogram;
+    }
+
+    private static double progress(int[][] first, int[][] current, int[][] last) {
+        double sum = 0;
+        for (int channel = 0; channel < 3; channel++) {
+            long total = 0;
+            long remaining = 0;
+            for (int bin = 0; bin < 256; bin++) {
+                total += Math.abs(first[channel][bin] - last[channel][bin]);
+                remaining += Math.abs(current[channel][bin] - last[channel][bin]);
+            }
+            sum += total == 0 ? 1 : Math.max(0, 1 - (double) remaining / total);
+        }
+        return sum / 3;
+    }
+
+    public static void record(Filmstrip filmstrip) {
+        filmstrips.add(filmstrip);
+    }
+
+    public static List<Filmstrip> getAll() {
+        synchronized (filmstrips) {
+            return new ArrayList<>(filmstrips);
+        }
+    }
+
+    /**
+     * Drop filmstrips started before the cutoff (rolling window for long-running monitors)
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        synchronized (filmstrips) {
+            int before = filmstrips.size();
+            filmstrips.removeIf(filmstrip -> filmstrip.startTime < cutoffMillis);
+            return before - filmstrips.size();
+        }
+    }
+
+    /**
+     * Report section with evenly spaced thumbnails per matching filmstrip; empty when there are none
+     */
+    public static String renderSection(Predicate<Filmstrip> filter) {
+        List<Filmstrip> matching = new ArrayList<>();
+        for (Filmstrip filmstrip : getAll()) {
+            if (filter.test(filmstrip)) matching.add(filmstrip);
+        }
+        if (matching.isEmpty()) return "";
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class=\"test-section\">");
+        html.append("<h2 class=\"section-title\">🎞️ Visual Progress</h2>");
+        for (Filmstrip filmstrip : matching) {
+            html.append("<h3 style=\"margin: 16px 0 8px; color: #1a1a1a; font-size: 1.05em;\">")
+                .append(escapeHtml(filmstrip.label)).append("</h3>");
+            html.append("<div style=\"color: #64748b; margin-bottom: 8px;\">Speed Index: <strong>")
+                .append(filmstrip.speedIndex < 0 ? "n/a" : filmstrip.speedIndex + " ms")
+                .append("</strong> &middot; Visually complete: <strong>")
+                .append(filmstrip.visuallyComplete < 0 ? "n/a" : filmstrip.visuallyComplete + " ms")
+                .append("</strong> &middot; ").append(filmstrip.frames.size()).append(" frames</div>");
+            html.append("<div style=\"display: flex; gap: 8px; overflow-x: auto; padding-bottom: 8px;\">");
+            int count = filmstrip.frames.size();
+            int step = Math.max(1, (int) Math.ceil(count / (double) THUMBNAILS));
+            for (int i = 0; i < count; i += step) {
+                appendThumbnail(html, filmstrip.frames.get(i));
+            }
+            if (count > 0 && (count - 1) % step != 0) {
+                appendThumbnail(html, filmstrip.frames.get(count - 1));
+            }
+            html.append("</div>");
+        }
+        html.append("</div>");
+        return html.toString();
+    }
+
+    private static void appendThumbnail(StringBuilder html, Frame frame) {
+        html.append("<figure style=\"margin: 0; text-align: center; flex: 0 0 auto;\">")
+            .append("<a href=\"").append(escapeHtml(frame.path)).append("\">")
+            .append("<img src=\"").append(escapeHtml(frame.path))
+            .append("\" style=\"height: 120px; border: 1px solid #e2e8f0; border-radius: 4px;\"></a>")
+            .append("<figcaption style=\"font-size: 0.8em; color: #64748b;\">")
+            .append(String.format("%.1fs &middot; %.0f%%", frame.offset / 1000.0, frame.visualProgress * 100))
+            .append("</figcaption></figure>");
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.automation.reporting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * Java Flight Recorder switch for the suite. With -Dperf.jfr=true, step and wait events are emitted
+ * and, unless the JVM already records (-XX:StartFlightRecording), a recording using the "profile"
+ * settings is dumped to target/custom-reports/suite.jfr at the end of the run.
+ */
+public final class FlightRecorderSupport {
+
+    private static final boolean ENABLED = Boolean.getBoolean("perf.jfr");
+    private static final Path RECORDING_FILE = Paths.get("target/custom-reports/suite.jfr");
+
+    private static Recording recording;
+
+    private FlightRecorderSupport() {
+        // utility class
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start a recording if perf.jfr is set and none is running yet
+     */
+    public static synchronized void startIfEnabled() {
+        if (!ENABLED || recording != null) return;
+        if (!FlightRecorder.isAvailable()) {
+            System.err.println("perf.jfr is set but Flight Recorder is not available in this JVM");
+            return;
+        }
+        if (!FlightRecorder.getFlightRecorder().getRecordings().isEmpty()) {
+            System.out.println("Flight recording already active, step and wait events go to it");
+            return;
+        }
+
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("yuba-suite");
+            recording.enable(StepEvent.class);
+            recording.enable(WaitEvent.class);
+            recording.start();
+            System.out.println("Flight recording started (dump: " + RECORDING_FILE + ")");
+        } catch (IOException | ParseException e) {
+            System.err.println("Could not start flight recording: " + e.getMessage());
+            recording = null;
+        }
+    }
+
+    /**
+     * Stop the suite's own recording and write it to disk
+     */
+    public static synchronized void stopAndDump() {
+        if (recording == null) return;
+        try {
+            Files.createDirectories(RECORDING_FILE.getParent());
+            recording.stop();
+            recording.dump(RECORDING_FILE);
+            System.out.println("Flight recording written: " + RECORDING_FILE);
+        } catch (IOException e) {
+            System.err.println("Error writing flight recording: " + e.getMessage());
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+}
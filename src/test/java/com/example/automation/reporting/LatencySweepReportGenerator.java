@@ -0,0 +1,285 @@
+package com.example.automation.reporting;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Renders a latency sweep (see LatencySweepRunner): per route and step, the least-squares slope of
+ * step time against injected latency, its R² and the mean step time at each delay. Slope is ms of
+ * step time per ms of injected latency.
+ */
+public class LatencySweepReportGenerator {
+
+    public static final Path DEFAULT_OUTPUT = Paths.get("target/custom-reports/latency_sweep_report.html");
+
+    private static final double CRITICAL_SLOPE = 0.5;
+    private static final double PARTIAL_SLOPE = 0.1;
+
+    /**
+     * Step times of one scenario run with one route delayed
+     */
+    public static class Point {
+        public final String route;
+        public final long delayMs;
+        public final int intercepted; // Requests that matched the route during the run
+        public final Map<String, Long> stepTimes; // Step name -> total time of its runs (ms); absent if one failed
+
+        public Point(String route, long delayMs, int intercepted, Map<String, Long> stepTimes) {
+            this.route = route;
+            this.delayMs = delayMs;
+            this.intercepted = intercepted;
+            this.stepTimes = stepTimes;
+        }
+    }
+
+    public static void generateReport(List<Point> points, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (FileWriter writer = new FileWriter(output.toFile())) {
+            writer.write(generateHtmlContent(points));
+        }
+
+        System.out.println("Latency sweep report generated: " + output);
+    }
+
+    private static String generateHtmlContent(List<Point> points) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+
+        Map<String, List<Point>> byRoute = new LinkedHashMap<>();
+        Set<Long> allDelays = new TreeSet<>();
+        for (Point point : points) {
+            byRoute.computeIfAbsent(point.route, k -> new ArrayList<>()).add(point);
+            allDelays.add(point.delayMs);
+        }
+
+        StringBuilder sections = new StringBuilder();
+        int critical = 0;
+        for (Map.Entry<String, List<Point>> route : byRoute.entrySet()) {
+            List<Point> routePoints = route.getValue();
+            int intercepted = routePoints.stream().mapToInt(point -> point.intercepted).max().orElse(0);
+
+            Set<String> stepNames = new LinkedHashSet<>();
+            routePoints.forEach(point -> stepNames.addAll(point.stepTimes.keySet()));
+
+            StringBuilder rows = new StringBuilder();
+            boolean routeCritical = false;
+            for (String stepName : stepNames) {
+                List<double[]> samples = new ArrayList<>();
+                Map<Long, List<Long>> byDelay = new TreeMap<>();
+                for (Point point : routePoints) {
+                    Long time = point.stepTimes.get(stepName);
+                    if (time == null) continue;
+                    samples.add(new double[] {point.delayMs, time});
+                    byDelay.computeIfAbsent(point.delayMs, k -> new ArrayList<>()).add(time);
+                }
+                double[] fit = fitLine(samples);
+
+                String cssClass;
+                String verdict;
+                if (fit == null) {
+                    cssClass = "unchanged";
+                    verdict = "Not enough points";
+                } else if (fit[0] >= CRITICAL_SLOPE) {
+                    cssClass = "critical";
+                    verdict = "On critical path";
+                    routeCritical = true;
+                } else if (fit[0] >= PARTIAL_SLOPE) {
+                    cssClass = "partial";
+                    verdict = "Partly on critical path";
+                } else {
+                    cssClass = "unchanged";
+                    verdict = "Not on critical path";
+                }
+
+                rows.append("<tr>");
+                rows.append("<td>").append(escapeHtml(stepName)).append("</td>");
+                for (Long delay : allDelays) {
+                    List<Long> times = byDelay.get(delay);
+                    rows.append("<td>").append(times == null ? "—"
+                        : String.format("%.0f", times.stream().mapToLong(Long::longValue).average().orElse(0))).append("</td>");
+                }
+                rows.append("<td class='").append(cssClass).append("'>")
+                    .append(fit == null ? "—" : String.format("%.2f", fit[0])).append("</td>");
+                rows.append("<td>").append(fit == null ? "—" : String.format("%.2f", fit[1])).append("</td>");
+                rows.append("<td class='").append(cssClass).append("'>").append(verdict).append("</td>");
+                rows.append("</tr>");
+            }
+            if (routeCritical) critical++;
+
+            sections.append("<div class=\"test-section\">");
+            sections.append("<h2 class=\"section-title\">🐢 ").append(escapeHtml(route.getKey())).append("</h2>");
+            if (intercepted == 0) {
+                sections.append("<div class=\"warning\">No request matched this route in any run, so its slopes only show noise. Check the URL pattern.</div>");
+            } else {
+                sections.append("<div class=\"subtitle\">Up to ").append(intercepted).append(" matching requests delayed per run</div>");
+            }
+            sections.append("<table class=\"sweep-table\"><thead><tr><th>Step Name</th>");
+            for (Long delay : allDelays) {
+                sections.append("<th>+").append(delay).append(" ms</th>");
+            }
+            sections.append("<th>Slope</th><th>R²</th><th>Verdict</th></tr></thead><tbody>");
+            sections.append(rows.length() == 0
+                ? "<tr><td colspan='" + (allDelays.size() + 4) + "' style='text-align: center; padding: 30px; color: #64748b;'>No step passed in these runs.</td></tr>"
+                : rows.toString());
+            sections.append("</tbody></table></div>");
+        }
+
+        String html = """
+<!DOCTYPE html>
+<html lang="en">
+<head>
+    <meta charset="UTF-8">
+    <meta name="viewport" content="width=device-width, initial-scale=1.0">
+    <title>Yuba Latency Sensitivity Report</title>
+    <style>
+        * { margin: 0; padding: 0; box-sizing: border-box; }
+        body {
+            font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', 'Helvetica Neue', sans-serif;
+            line-height: 1.6;
+            color: #2c3e50;
+            background: #f5f7fa;
+        }
+        .container { max-width: 1400px; margin: 0 auto; padding: 40px 20px; }
+        .header {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 40px;
+            margin-bottom: 30px;
+            box-shadow: 0 2px 8px rgba(0, 0, 0, 0.08);
+            border-left: 4px solid #ef4444;
+        }
+        .header h1 { color: #1a1a1a; font-size: 2em; font-weight: 600; }
+        .subtitle, .header .timestamp { color: #64748b; margin-bottom: 12px; }
+        .warning { color: #b45309; margin-bottom: 12px; }
+        .stats-grid {
+            display: grid;
+            grid-template-columns: repeat(auto-fit, minmax(220px, 1fr));
+            gap: 20px;
+            margin-bottom: 30px;
+        }
+        .stat-card {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 24px;
+            text-align: center;
+            border: 1px solid #e2e8f0;
+        }
+        .stat-number { font-size: 2em; font-weight: 600; }
+        .stat-label { color: #64748b; font-size: 0.875em; text-transform: uppercase; }
+        .test-section {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 28px;
+            margin-bottom: 24px;
+            border: 1px solid #e2e8f0;
+        }
+        .section-title {
+            font-size: 1.4em;
+            color: #1a1a1a;
+            margin-bottom: 16px;
+            padding-bottom: 10px;
+            border-bottom: 2px solid #e2e8f0;
+        }
+        .sweep-table { width: 100%; border-collapse: collapse; }
+        .sweep-table thead { background: #1e293b; color: #ffffff; }
+        .sweep-table th {
+            padding: 12px;
+            text-align: left;
+            font-weight: 600;
+            text-transform: uppercase;
+            font-size: 0.8em;
+        }
+        .sweep-table td { padding: 10px 12px; border-bottom: 1px solid #ecf0f1; font-size: 0.9em; }
+        .sweep-table tbody tr:hover { background: #f8f9fa; }
+        .critical { color: #e74c3c; font-weight: 600; }
+        .partial { color: #d97706; font-weight: 600; }
+        .unchanged { color: #64748b; }
+    </style>
+</head>
+<body>
+    <div class="container">
+        <div class="header">
+            <h1>Latency Sensitivity Report</h1>
+            <div class="subtitle">Step time (ms) by latency injected into one backend route at a time; slope is ms of step time per ms injected</div>
+            <div class="timestamp">Generated on: TIMESTAMP_PLACEHOLDER</div>
+        </div>
+
+        <div class="stats-grid">
+            <div class="stat-card">
+                <div class="stat-number">SWEEP_ROUTE_COUNT</div>
+                <div class="stat-label">Routes Swept</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">SWEEP_RUN_COUNT</div>
+                <div class="stat-label">Scenario Runs</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number critical">SWEEP_CRITICAL_COUNT</div>
+                <div class="stat-label">Routes on a Critical Path</div>
+            </div>
+        </div>
+
+        SWEEP_SECTIONS
+    </div>
+</body>
+</html>
+""";
+
+        html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
+        html = html.replace("SWEEP_ROUTE_COUNT", String.valueOf(byRoute.size()));
+        html = html.replace("SWEEP_RUN_COUNT", String.valueOf(points.size()));
+        html = html.replace("SWEEP_CRITICAL_COUNT", String.valueOf(critical));
+        html = html.replace("SWEEP_SECTIONS", sections.length() == 0
+            ? "<div class=\"test-section\"><div class=\"subtitle\">No sweep runs completed.</div></div>"
+            : sections.toString());
+        return html;
+    }
+
+    /**
+     * Least-squares slope and R² of y over x for {x, y} samples; null with fewer than two distinct x
+     */
+    static double[] fitLine(List<double[]> samples) {
+        int n = samples.size();
+        if (n < 2) return null;
+        double meanX = samples.stream().mapToDouble(sample -> sample[0]).average().getAsDouble();
+        double meanY = samples.stream().mapToDouble(sample -> sample[1]).average().getAsDouble();
+        double sxx = 0;
+        double sxy = 0;
+        double syy = 0;
+        for (double[] sample : samples) {
+            double dx = sample[0] - meanX;
+            double dy = sample[1] - meanY;
+            sxx += dx * dx;
+            sxy += dx * dy;
+            syy += dy * dy;
+        }
+        if (sxx == 0) return null;
+        double slope = sxy / sxx;
+        double rSquared = syy == 0 ? 1.0 : (sxy * sxy) / (sxx * syy);
+        return new double[] {slope, rSquared};
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
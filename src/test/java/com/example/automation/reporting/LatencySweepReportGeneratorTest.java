@@ -0,0 +1,31 @@
+package com.example.automation.reporting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LatencySweepReportGeneratorTest {
+
+    @Test
+    void fitLineOnAPerfectLineGivesItsSlopeAndAnRSquaredOfOne() {
+        double[] fit = LatencySweepReportGenerator.fitLine(List.of(
+            new double[] {0, 300}, new double[] {500, 1300}, new double[] {1000, 2300}, new double[] {2000, 4300}));
+        assertThat(fit[0]).isCloseTo(2.0, within(1e-9));
+        assertThat(fit[1]).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void fitLineOnAFlatLineGivesNoSlope() {
+        double[] fit = LatencySweepReportGenerator.fitLine(List.of(new double[] {0, 800}, new double[] {1000, 800}));
+        assertThat(fit[0]).isCloseTo(0.0, within(1e-9));
+        assertThat(fit[1]).isEqualTo(1.0);
+    }
+
+    @Test
+    void fitLineNeedsTwoDistinctDelays() {
+        assertThat(LatencySweepReportGenerator.fitLine(List.of(new double[] {500, 900}))).isNull();
+        assertThat(LatencySweepReportGenerator.fitLine(List.of(new double[] {500, 900}, new double[] {500, 950}))).isNull();
+    }
+}
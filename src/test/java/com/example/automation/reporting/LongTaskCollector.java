@@ -0,0 +1,237 @@
+package com.example.automation.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Main-thread blocking per tracked step, from the page's longtask and long-animation-frame entries.
+ * Total blocking time is the part of each long task beyond 50ms; long animation frames attribute
+ * that time to the scripts that ran in them. Enabled with -Dperf.longtasks=true.
+ */
+public class LongTaskCollector {
+
+    private static final long LONG_TASK_THRESHOLD_MS = 50;
+
+    /**
+     * Installs the observers once per document; entries land in window.__perfLongTasks. The observers
+     * stay on window.__perfLongTaskObservers so a drain can take the entries not yet delivered
+     */
+    public static final String OBSERVER_SCRIPT =
+        "if (!window.__perfLongTaskObservers) {" +
+        "  window.__perfLongTaskObservers = [];" +
+        "  window.__perfLongTasks = window.__perfLongTasks || [];" +
+        "  var keep = function(entry) { if (window.__perfLongTasks.length < 500) window.__perfLongTasks.push(entry); };" +
+        "  var observe = function(type, handle) {" +
+        "    try {" +
+        "      var observer = new PerformanceObserver(function(list) { handle(list.getEntries()); });" +
+        "      observer.observe({type: type, buffered: true});" +
+        "      window.__perfLongTaskObservers.push({observer: observer, handle: handle});" +
+        "    } catch (err) {}" +
+        "  };" +
+        "  observe('longtask', function(entries) {" +
+        "    entries.forEach(function(e) {" +
+        "      var a = e.attribution && e.attribution[0];" +
+        "      keep({type: 'longtask', duration: e.duration," +
+        "            source: a ? (a.containerSrc || a.containerName || a.name || '') : ''});" +
+        "    });" +
+        "  });" +
+        "  observe('long-animation-frame', function(entries) {" +
+        "    entries.forEach(function(e) {" +
+        "      keep({type: 'loaf', duration: e.duration, blocking: e.blockingDuration || 0," +
+        "            scripts: (e.scripts || []).map(function(s) {" +
+        "              return {source: s.sourceURL || '', fn: s.sourceFunctionName || '', invoker: s.invoker || ''," +
+        "                      duration: s.duration};" +
+        "            })});" +
+        "    });" +
+        "  });" +
+        "}";
+
+    /**
+     * Returns and clears the entries observed in the current document so far. Observer callbacks run in
+     * a later task (the buffered page-load entries too), so pending records are taken synchronously first
+     */
+    public static final String DRAIN_SCRIPT = OBSERVER_SCRIPT +
+        "window.__perfLongTaskObservers.forEach(function(o) { o.handle(o.observer.takeRecords()); });" +
+        "var entries = window.__perfLongTasks;" +
+        "window.__perfLongTasks = [];" +
+        "return entries;";
+
+    private static final List<ScriptBlocking> attributions = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Blocking time attributed to one script during one step
+     */
+    public static class ScriptBlocking {
+        public final String stepName;
+        public final String script;
+        public final long duration;
+        public final long timestamp;
+
+        public ScriptBlocking(String stepName, String script, long duration, long timestamp) {
+            this.stepName = stepName;
+            this.script = script;
+            this.duration = duration;
+            this.timestamp = timestamp;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("perf.longtasks");
+    }
+
+    /**
+     * Attribute entries returned by DRAIN_SCRIPT to a tracked step
+     */
+    public static void recordEntries(String stepId, Object entries) {
+        PerformanceTracker.PerformanceMetric metric = PerformanceTracker.getMetric(stepId);
+        if (metric == null || !(entries instanceof List)) return;
+
+        long blockingTime = 0;
+        long frameBlockingTime = 0;
+        int longTasks = 0;
+        Map<String, Long> byScript = new LinkedHashMap<>();
+        Map<String, Long> unattributed = new LinkedHashMap<>();
+
+        for (Object entry : (List<?>) entries) {
+            if (!(entry instanceof Map)) continue;
+            Map<?, ?> map = (Map<?, ?>) entry;
+            long duration = toLong(map.get("duration"));
+            if ("longtask".equals(map.get("type"))) {
+                longTasks++;
+                long blocking = Math.max(0, duration - LONG_TASK_THRESHOLD_MS);
+                blockingTime += blocking;
+                String source = String.valueOf(map.get("source"));
+                unattributed.merge(source.isEmpty() || "self".equals(source) || "window".equals(source)
+                    ? "(unattributed)" : stripQuery(source), blocking, Long::sum);
+            } else if (map.get("scripts") instanceof List) {
+                frameBlockingTime += toLong(map.get("blocking"));
+                for (Object script : (List<?>) map.get("scripts")) {
+                    if (!(script instanceof Map)) continue;
+                    Map<?, ?> s = (Map<?, ?>) script;
+                    byScript.merge(describe(s), toLong(s.get("duration")), Long::sum);
+                }
+            }
+        }
+
+        // Browsers without longtask entries still report long animation frames
+        if (longTasks == 0) blockingTime = frameBlockingTime;
+        metric.totalBlockingTime = blockingTime;
+        metric.longTaskCount = longTasks;
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : (byScript.isEmpty() ? unattributed : byScript).entrySet()) {
+            if (entry.getValue() > 0) {
+                attributions.add(new ScriptBlocking(metric.stepName, entry.getKey(), entry.getValue(), now));
+            }
+        }
+    }
+
+    /**
+     * Scripts with the most blocking time over steps matching the filter, worst first
+     */
+    public static List<Map.Entry<String, Long>> worstOffenders(Predicate<String> stepFilter, int limit) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        synchronized (attributions) {
+            for (ScriptBlocking attribution : attributions) {
+                if (stepFilter.test(attribution.stepName)) {
+                    totals.merge(attribution.script, attribution.duration, Long::sum);
+                }
+            }
+        }
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    /**
+     * Drop attributions recorded before the cutoff (rolling window for long-running monitors)
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        synchronized (attributions) {
+            int before = attributions.size();
+            attributions.removeIf(attribution -> attribution.timestamp < cutoffMillis);
+            return before - attributions.size();
+        }
+    }
+
+    public static void clearEntries() {
+        attributions.clear();
+    }
+
+    /**
+     * Report section with blocking time per matching step and the worst offending scripts;
+     * empty when no matching step saw a long task
+     */
+    public static String renderSection(Predicate<String> stepFilter) {
+        StringBuilder stepRows = new StringBuilder();
+        Map<String, PerformanceTracker.PerformanceMetric> metrics = PerformanceTracker.getAllMetrics();
+        for (String stepId : PerformanceTracker.getExecutionOrder()) {
+            PerformanceTracker.PerformanceMetric metric = metrics.get(stepId);
+            if (metric == null || metric.totalBlockingTime <= 0 || !stepFilter.test(metric.stepName)) continue;
+            stepRows.append("<tr><td>").append(escapeHtml(metric.stepName)).append("</td><td>")
+                .append(metric.longTaskCount).append("</td><td>").append(metric.totalBlockingTime).append(" ms</td>")
+                .append("<td>").append(String.format("%.3f", metric.totalTime / 1000.0)).append("s</td></tr>");
+        }
+        if (stepRows.length() == 0) return "";
+
+        List<Map.Entry<String, Long>> offenders = worstOffenders(stepFilter, 10);
+        StringBuilder offenderRows = new StringBuilder();
+        for (Map.Entry<String, Long> offender : offenders) {
+            TreeSet<String> steps = new TreeSet<>();
+            synchronized (attributions) {
+                for (ScriptBlocking attribution : attributions) {
+                    if (attribution.script.equals(offender.getKey()) && stepFilter.test(attribution.stepName)) {
+                        steps.add(attribution.stepName);
+                    }
+                }
+            }
+            offenderRows.append("<tr><td style='word-break: break-all;'>").append(escapeHtml(offender.getKey()))
+                .append("</td><td>").append(offender.getValue()).append(" ms</td><td>")
+                .append(escapeHtml(String.join(", ", steps))).append("</td></tr>");
+        }
+
+        return "<div class=\"test-section\">"
+            + "<h2 class=\"section-title\">🧵 Main-Thread Blocking</h2>"
+            + "<table class=\"performance-table\"><thead><tr><th>Step Name</th><th>Long Tasks</th>"
+            + "<th>Total Blocking Time</th><th>Total Time (s)</th></tr></thead><tbody>" + stepRows + "</tbody></table>"
+            + (offenders.isEmpty() ? "" :
+                "<h3 style=\"margin: 24px 0 12px; color: #1a1a1a; font-size: 1.1em; font-weight: 600;\">Worst Offending Scripts</h3>"
+                + "<table class=\"performance-table\"><thead><tr><th>Script</th><th>Time in Long Frames</th>"
+                + "<th>Steps</th></tr></thead><tbody>" + offenderRows + "</tbody></table>")
+            + "</div>";
+    }
+
+    private static String describe(Map<?, ?> script) {
+        String source = stripQuery(String.valueOf(script.get("source")));
+        String fn = String.valueOf(script.get("fn"));
+        String invoker = String.valueOf(script.get("invoker"));
+        StringBuilder label = new StringBuilder(source.isEmpty() ? "(inline)" : source);
+        if (!fn.isEmpty()) label.append(" ").append(fn).append("()");
+        if (!invoker.isEmpty()) label.append(" via ").append(invoker);
+        return label.toString();
+    }
+
+    private static String stripQuery(String url) {
+        int cut = url.indexOf('?');
+        if (cut < 0) cut = url.indexOf('#');
+        return cut < 0 ? url : url.substring(0, cut);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? Math.round(((Number) value).doubleValue()) : 0;
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.automation.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * JS heap, DOM node and event listener counts of the page before and after tracked steps, plus
+ * per-iteration samples for repeated flows (e.g. -Darefresh.repeat=20) to spot leaks in the app.
+ * Enabled with -Dperf.memory=true.
+ */
+public class MemoryCollector {
+
+    private static final List<Iteration> iterations = Collections.synchronizedList(new ArrayList<>());
+
+    public static class MemorySample {
+        public long heapUsed; // Bytes of JS heap in use
+        public long heapTotal; // Bytes of JS heap allocated
+        public long domNodes; // -1 when unknown
+        public long listeners; // JS event listeners, -1 when unknown
+
+        public MemorySample(long heapUsed, long heapTotal, long domNodes, long listeners) {
+            this.heapUsed = heapUsed;
+            this.heapTotal = heapTotal;
+            this.domNodes = domNodes;
+            this.listeners = listeners;
+        }
+
+        /**
+         * Sample from CDP Runtime.getHeapUsage and Memory.getDOMCounters results (either may be null)
+         */
+        public static MemorySample fromCdp(Map<?, ?> heapUsage, Map<?, ?> domCounters) {
+            return new MemorySample(
+                heapUsage == null ? -1 : toLong(heapUsage.get("usedSize")),
+                heapUsage == null ? -1 : toLong(heapUsage.get("totalSize")),
+                domCounters == null ? -1 : toLong(domCounters.get("nodes")),
+                domCounters == null ? -1 : toLong(domCounters.get("jsEventListeners")));
+        }
+    }
+
+    /**
+     * One iteration of a repeated flow
+     */
+    public static class Iteration {
+        public final String series;
+        public final int iteration;
+        public final MemorySample sample;
+        public final long timestamp;
+
+        public Iteration(String series, int iteration, MemorySample sample) {
+            this.series = series;
+            this.iteration = iteration;
+            this.sample = sample;
+            this.timestamp = System.currentTimeMillis();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("perf.memory");
+    }
+
+    /**
+     * Attach before/after samples to a tracked step; keeps samples a step already recorded itself
+     */
+    public static void recordStepSamples(String stepId, MemorySample before, MemorySample after) {
+        PerformanceTracker.PerformanceMetric metric = PerformanceTracker.getMetric(stepId);
+        if (metric == null || metric.memoryBefore != null) return;
+        metric.memoryBefore = before;
+        metric.memoryAfter = after;
+    }
+
+    public static void recordIteration(String series, int iteration, MemorySample sample) {
+        iterations.add(new Iteration(series, iteration, sample));
+    }
+
+    public static List<Iteration> getIterations(String series) {
+        List<Iteration> matching = new ArrayList<>();
+        synchronized (iterations) {
+            for (Iteration iteration : iterations) {
+                if (iteration.series.equals(series)) matching.add(iteration);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Least-squares heap growth in bytes per iteration, or 0 with fewer than two samples
+     */
+    public static double heapGrowthPerIteration(List<Iteration> series) {
+        int n = series.size();
+        if (n < 2) return 0;
+        double meanX = 0;
+        double meanY = 0;
+        for (Iteration iteration : series) {
+            meanX += iteration.iteration;
+            meanY += iteration.sample.heapUsed;
+        }
+        meanX /= n;
+        meanY /= n;
+        double covariance = 0;
+        double variance = 0;
+        for (Iteration iteration : series) {
+            covariance += (iteration.iteration - meanX) * (iteration.sample.heapUsed - meanY);
+            variance += (iteration.iteration - meanX) * (iteration.iteration - meanX);
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    /**
+     * Drop iterations sampled before the cutoff (rolling window for long-running monitors)
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        synchronized (iterations) {
+            int before = iterations.size();
+            iterations.removeIf(iteration -> iteration.timestamp < cutoffMillis);
+            return before - iterations.size();
+        }
+    }
+
+    public static void clearIterations() {
+        iterations.clear();
+    }
+
+    /**
+     * Report section with memory deltas of matching steps and a heap chart of the series' iterations;
+     * empty when there is nothing to show. Needs Chart.js on the page.
+     */
+    public static String renderSection(Predicate<String> stepFilter, String series) {
+        StringBuilder stepRows = new StringBuilder();
+        Map<String, PerformanceTracker.PerformanceMetric> metrics = PerformanceTracker.getAllMetrics();
+        for (String stepId : PerformanceTracker.getExecutionOrder()) {
+            PerformanceTracker.PerformanceMetric metric = metrics.get(stepId);
+            if (metric == null || metric.memoryAfter == null || !stepFilter.test(metric.stepName)) continue;
+            MemorySample before = metric.memoryBefore;
+            MemorySample after = metric.memoryAfter;
+            stepRows.append("<tr><td>").append(escapeHtml(metric.stepName)).append("</td>")
+                .append("<td>").append(formatMegabytes(after.heapUsed)).append(" (")
+                .append(formatDelta((after.heapUsed - before.heapUsed) / 1048576.0, " MB")).append(")</td>")
+                .append("<td>").append(after.domNodes).append(" (")
+                .append(formatDelta(after.domNodes - before.domNodes, "")).append(")</td>")
+                .append("<td>").append(after.listeners).append(" (")
+                .append(formatDelta(after.listeners - before.listeners, "")).append(")</td></tr>");
+        }
+
+        List<Iteration> samples = getIterations(series);
+        if (stepRows.length() == 0 && samples.isEmpty()) return "";
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class=\"test-section\">");
+        html.append("<h2 class=\"section-title\">🧠 Memory</h2>");
+        if (samples.size() > 1) {
+            double growth = heapGrowthPerIteration(samples);
+            html.append("<div style=\"color: #64748b; margin-bottom: 12px;\">Heap growth after forced GC: <strong>")
+                .append(formatDelta(growth / 1024.0, " KB")).append("</strong> per iteration over ")
+                .append(samples.size()).append(" samples</div>");
+
+            StringBuilder labels = new StringBuilder();
+            StringBuilder heap = new StringBuilder();
+            StringBuilder nodes = new StringBuilder();
+            for (int i = 0; i < samples.size(); i++) {
+                Iteration iteration = samples.get(i);
+                String separator = i == 0 ? "" : ", ";
+                labels.append(separator).append(iteration.iteration);
+                heap.append(separator).append(String.format("%.2f", iteration.sample.heapUsed / 1048576.0));
+                nodes.append(separator).append(iteration.sample.domNodes);
+            }
+            html.append("<div class=\"chart-container\"><h3 style=\"margin-bottom: 16px; color: #1a1a1a; font-size: 1.1em; font-weight: 600;\">")
+                .append("Heap and DOM Nodes by Iteration</h3><div class=\"chart-wrapper\"><canvas id=\"heapChart\"></canvas></div></div>");
+            html.append("<script>window.addEventListener('load', function() {")
+                .append("new Chart(document.getElementById('heapChart').getContext('2d'), {type: 'line', data: {")
+                .append("labels: [").append(labels).append("], datasets: [")
+                .append("{label: 'JS Heap (MB)', data: [").append(heap).append("], yAxisID: 'y',")
+                .append(" borderColor: 'rgba(139, 92, 246, 1)', backgroundColor: 'rgba(139, 92, 246, 0.1)', tension: 0.3},")
+                .append("{label: 'DOM Nodes', data: [").append(nodes).append("], yAxisID: 'y1',")
+                .append(" borderColor: 'rgba(245, 158, 11, 1)', backgroundColor: 'rgba(245, 158, 11, 0.1)', tension: 0.3}]},")
+                .append("options: {responsive: true, maintainAspectRatio: false, scales: {")
+                .append("y: {position: 'left', title: {display: true, text: 'Heap (MB)'}},")
+                .append("y1: {position: 'right', grid: {drawOnChartArea: false}, title: {display: true, text: 'DOM Nodes'}},")
+                .append("x: {title: {display: true, text: 'Iteration'}}}}});});</script>");
+        }
+        if (stepRows.length() > 0) {
+            html.append("<table class=\"performance-table\"><thead><tr><th>Step Name</th><th>JS Heap After (Δ)</th>")
+                .append("<th>DOM Nodes After (Δ)</th><th>Listeners After (Δ)</th></tr></thead><tbody>")
+                .append(stepRows).append("</tbody></table>");
+        }
+        html.append("</div>");
+        return html.toString();
+    }
+
+    private static String formatMegabytes(long bytes) {
+        return bytes < 0 ? "n/a" : String.format("%.2f MB", bytes / 1048576.0);
+    }
+
+    private static String formatDelta(double value, String unit) {
+        return (value >= 0 ? "+" : "") + (unit.isEmpty() ? String.valueOf(Math.round(value)) : String.format("%.2f", value)) + unit;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : -1;
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
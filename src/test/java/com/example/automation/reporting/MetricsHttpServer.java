@@ -0,0 +1,54 @@
+package com.example.automation.reporting;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Optional embedded /metrics endpoint serving {@link OpenMetricsExporter} output during a run.
+ * Enabled with -Dperf.metrics.port=9464 (any free port). Listens on the loopback interface only;
+ * -Dperf.metrics.host=0.0.0.0 (or a specific address) exposes it to a scraper on another machine.
+ */
+public class MetricsHttpServer {
+
+    private static HttpServer server;
+
+    /**
+     * Start the endpoint if perf.metrics.port is set; no-op otherwise or when already running
+     */
+    public static synchronized void startIfConfigured() {
+        String port = System.getProperty("perf.metrics.port");
+        if (port == null || port.isBlank() || server != null) return;
+
+        String host = System.getProperty("perf.metrics.host");
+        try {
+            InetAddress address = host == null || host.isBlank()
+                ? InetAddress.getLoopbackAddress()
+                : InetAddress.getByName(host.trim());
+            server = HttpServer.create(new InetSocketAddress(address, Integer.parseInt(port.trim())), 0);
+            server.createContext("/metrics", exchange -> {
+                byte[] body = OpenMetricsExporter.render().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", OpenMetricsExporter.CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.start();
+            System.out.println("Metrics endpoint listening on http://" + address.getHostAddress() + ":" + port.trim() + "/metrics");
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+            server = null;
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.automation.reporting;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders PerformanceTracker and TestResultsCollector data in the OpenMetrics text format
+ * so the suite can be scraped when it runs as a synthetic monitor. Counters and histograms are
+ * fed as steps and tests finish, so evicting the collectors' rolling window never lowers them.
+ */
+public class OpenMetricsExporter {
+
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final Path METRICS_FILE = Paths.get("target/custom-reports/metrics.prom");
+
+    // Step durations range from a few hundred ms (inputs) to a minute (dashboard loads)
+    private static final double[] BUCKETS = {0.1, 0.25, 0.5, 1, 2.5, 5, 10, 20, 30, 60};
+
+    private static final Map<String, Histogram> byStep = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> byAction = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> byTag = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> stepCounts = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> testCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Cumulative histogram for one label set
+     */
+    private static class Histogram {
+        final long[] bucketCounts = new long[BUCKETS.length];
+        long count;
+        double sum;
+
+        synchronized void observe(double seconds) {
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (seconds <= BUCKETS[i]) bucketCounts[i]++;
+            }
+            count++;
+            sum += seconds;
+        }
+    }
+
+    /**
+     * Count a step that just finished; called once per step by PerformanceTracker
+     */
+    static void observeStep(PerformanceTracker.PerformanceMetric metric) {
+        String status = metric.status == null ? "UNKNOWN" : metric.status;
+        stepCounts.computeIfAbsent(labels("status", status), k -> new AtomicLong()).incrementAndGet();
+
+        // Steps that failed before measuring anything have no duration
+        if (metric.totalTime <= 0) return;
+        double seconds = metric.totalTime / 1000.0;
+
+        byStep.computeIfAbsent(labels("step", metric.stepName, "action_type", metric.actionType),
+            k -> new Histogram()).observe(seconds);
+        byAction.computeIfAbsent(labels("action_type", metric.actionType), k -> new Histogram()).observe(seconds);
+        if (metric.tags != null) {
+            for (String tag : metric.tags) {
+                byTag.computeIfAbsent(labels("tag", tag), k -> new Histogram()).observe(seconds);
+            }
+        }
+    }
+
+    /**
+     * Count a recorded test result; called by TestResultsCollector
+     */
+    static void observeTest(TestResultsCollector.TestResult result) {
+        testCounts.computeIfAbsent(labels("status", result.status, "category", result.category),
+            k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Write the metrics file at the end of a run
+     */
+    public static void writeMetricsFile() {
+        try {
+            Files.createDirectories(METRICS_FILE.getParent());
+            Files.writeString(METRICS_FILE, render());
+            System.out.println("OpenMetrics export written: " + METRICS_FILE);
+        } catch (IOException e) {
+            System.err.println("Error writing OpenMetrics export: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render everything observed since the JVM started
+     */
+    public static String render() {
+        StringBuilder out = new StringBuilder();
+        appendHistogram(out, "yuba_step_duration_seconds", "Duration of tracked steps by step and action type.", byStep);
+        appendHistogram(out, "yuba_action_duration_seconds", "Duration of tracked steps by action type.", byAction);
+        appendHistogram(out, "yuba_tag_step_duration_seconds", "Duration of tracked steps by scenario tag.", byTag);
+        appendCounter(out, "yuba_steps", "Tracked steps by status.", stepCounts);
+        appendCounter(out, "yuba_tests", "Recorded test results by status and category.", testCounts);
+
+        out.append("# TYPE yuba_last_update_timestamp_seconds gauge\n");
+        out.append("# HELP yuba_last_update_timestamp_seconds Time these metrics were rendered.\n");
+        out.append("yuba_last_update_timestamp_seconds ").append(System.currentTimeMillis() / 1000.0).append('\n');
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    private static void appendHistogram(StringBuilder out, String name, String help, Map<String, Histogram> series) {
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(series).entrySet()) {
+            String labelSet = entry.getKey();
+            Histogram histogram = entry.getValue();
+            // Buckets, count and sum of one series from the same observation
+            synchronized (histogram) {
+                for (int i = 0; i < BUCKETS.length; i++) {
+                    out.append(name).append("_bucket{").append(labelSet).append(",le=\"").append(BUCKETS[i]).append("\"} ")
+                        .append(histogram.bucketCounts[i]).append('\n');
+                }
+                out.append(name).append("_bucket{").append(labelSet).append(",le=\"+Inf\"} ").append(histogram.count).append('\n');
+                out.append(name).append("_count{").append(labelSet).append("} ").append(histogram.count).append('\n');
+                out.append(name).append("_sum{").append(labelSet).append("} ").append(histogram.sum).append('\n');
+            }
+        }
+    }
+
+    private static void appendCounter(StringBuilder out, String name, String help, Map<String, AtomicLong> series) {
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(series).entrySet()) {
+            out.append(name).append("_total{").append(entry.getKey()).append("} ").append(entry.getValue().get()).append('\n');
+        }
+    }
+
+    /**
+     * Build a label set from name/value pairs
+     */
+    private static String labels(String... pairs) {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            parts.add(pairs[i] + "=\"" + escapeLabel(pairs[i + 1]) + "\"");
+        }
+        return String.join(",", parts);
+    }
+
+    private static String escapeLabel(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n");
+    }
+}
@@ -1,14 +1,26 @@
 package com.example.automation.reporting;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PerformanceTracker {
     
     private static final Map<String, PerformanceMetric> stepMetrics = new ConcurrentHashMap<>();
-    private static final List<String> stepExecutionOrder = new ArrayList<>();
+    private static final List<String> stepExecutionOrder = Collections.synchronizedList(new ArrayList<>());
+    private static final AtomicLong duplicateIdCounter = new AtomicLong();
+    private static final ThreadLocal<String> currentScenarioName = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> currentScenarioTags = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<String> currentStepId = new ThreadLocal<>();
+    private static final Map<String, StepEvent> openStepEvents = new ConcurrentHashMap<>();
+    private static final Map<String, long[]> browserTimings = new ConcurrentHashMap<>();
     
     public static class PerformanceMetric {
         public String stepName;
@@ -19,6 +31,13 @@ public class PerformanceTracker {
         public long timestamp;
         public String actionType; // "navigation", "click", "input", "submit", etc.
         public String status; // "PASSED", "FAILED", "SKIPPED"
+        public String scenarioName; // Scenario the step ran in, if known
+        public List<String> tags; // Tags of that scenario, e.g. "@ACM"
+        public long totalBlockingTime; // Main-thread time beyond 50ms per long task during the step
+        public int longTaskCount; // Long tasks (>50ms) observed during the step
+        public MemoryCollector.MemorySample memoryBefore; // Page memory when the step began, if sampled
+        public MemoryCollector.MemorySample memoryAfter; // Page memory when the step ended, if sampled
+        public boolean completed; // Passed or failed; until then status is only the "PASSED" default
         
         public PerformanceMetric(String stepName, String stepDescription, String actionType) {
             this.stepName = stepName;
@@ -26,9 +45,19 @@ public class PerformanceTracker {
             this.actionType = actionType;
             this.timestamp = System.currentTimeMillis();
             this.status = "PASSED";
+            this.scenarioName = currentScenarioName.get();
+            this.tags = new ArrayList<>(currentScenarioTags.get());
         }
     }
     
+    /**
+     * Set the scenario that subsequently started steps on this thread belong to
+     */
+    public static void setCurrentScenario(String scenarioName, Collection<String> tags) {
+        currentScenarioName.set(scenarioName);
+        currentScenarioTags.set(new ArrayList<>(tags));
+    }
+    
     /**
      * Start tracking a step's performance
      */
@@ -36,10 +65,18 @@ public class PerformanceTracker {
         String stepId = stepName + "_" + System.currentTimeMillis();
         PerformanceMetric metric = new PerformanceMetric(stepName, stepDescription, actionType);
         metric.responseTime = System.currentTimeMillis();
-        stepMetrics.put(stepId, metric);
         
-        if (!stepExecutionOrder.contains(stepId)) {
-            stepExecutionOrder.add(stepId);
+        // Same step started twice within a millisecond (parallel threads): keep both
+        while (stepMetrics.putIfAbsent(stepId, metric) != null) {
+            stepId = stepName + "_" + metric.timestamp + "_" + duplicateIdCounter.incrementAndGet();
+        }
+        stepExecutionOrder.add(stepId);
+        
+        currentStepId.set(stepId);
+        if (FlightRecorderSupport.isEnabled()) {
+            StepEvent event = new StepEvent();
+            event.begin();
+            openStepEvents.put(stepId, event);
         }
         
         return stepId;
@@ -65,6 +102,8 @@ public class PerformanceTracker {
             metric.loadTime = totalDuration - metric.responseTime;
             metric.totalTime = totalDuration;
             metric.status = "PASSED";
+            useBrowserTiming(stepId, metric);
+            finishStep(stepId, metric);
         }
     }
     
@@ -78,6 +117,34 @@ public class PerformanceTracker {
             metric.loadTime = loadEndTime - responseTime;
             metric.totalTime = loadEndTime - actionStartTime;
             metric.status = "PASSED";
+            useBrowserTiming(stepId, metric);
+            finishStep(stepId, metric);
+        }
+    }
+    
+    /**
+     * Use durations measured on the browser clock for the step; call before completeStep, which
+     * records them in place of its own times
+     */
+    public static void applyBrowserTiming(String stepId, long responseMillis, long loadMillis) {
+        PerformanceMetric metric = stepMetrics.get(stepId);
+        if (metric == null) return;
+        if (metric.completed) {
+            // Too late for the flight recorder event and metrics export, but keep the reports right
+            metric.responseTime = responseMillis;
+            metric.loadTime = loadMillis;
+            metric.totalTime = responseMillis + loadMillis;
+        } else {
+            browserTimings.put(stepId, new long[] {responseMillis, loadMillis});
+        }
+    }
+    
+    private static void useBrowserTiming(String stepId, PerformanceMetric metric) {
+        long[] browser = browserTimings.remove(stepId);
+        if (browser != null) {
+            metric.responseTime = browser[0];
+            metric.loadTime = browser[1];
+            metric.totalTime = browser[0] + browser[1];
         }
     }
     
@@ -89,9 +156,77 @@ public class PerformanceTracker {
         if (metric != null) {
             metric.totalTime = System.currentTimeMillis() - actionStartTime;
             metric.status = "FAILED";
+            browserTimings.remove(stepId);
+            finishStep(stepId, metric);
+        }
+    }
+    
+    /**
+     * Id of the step most recently started on this thread, or null
+     */
+    public static String getCurrentStepId() {
+        return currentStepId.get();
+    }
+    
+    /**
+     * Name of the step most recently started on this thread, or null
+     */
+    public static String getCurrentStepName() {
+        String stepId = currentStepId.get();
+        PerformanceMetric metric = stepId == null ? null : stepMetrics.get(stepId);
+        return metric == null ? null : metric.stepName;
+    }
+    
+    /**
+     * Mark the step finished: commit its flight recorder event and count it in the metrics export once
+     */
+    private static void finishStep(String stepId, PerformanceMetric metric) {
+        boolean firstFinish = !metric.completed;
+        metric.completed = true;
+        commitStepEvent(stepId, metric);
+        if (firstFinish) {
+            OpenMetricsExporter.observeStep(metric);
+        }
+    }
+    
+    private static void commitStepEvent(String stepId, PerformanceMetric metric) {
+        StepEvent event = openStepEvents.remove(stepId);
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.stepName = metric.stepName;
+            event.stepDescription = metric.stepDescription;
+            event.actionType = metric.actionType;
+            event.scenarioName = metric.scenarioName;
+            event.status = metric.status;
+            event.responseTime = metric.responseTime;
+            event.loadTime = metric.loadTime;
+            event.totalTime = metric.totalTime;
+            event.commit();
         }
     }
     
+    /**
+     * Record an already finished step (e.g. read back from a prior run's Cucumber output)
+     */
+    public static String recordStep(String stepName, String stepDescription, String actionType,
+                                    String status, long duration, long timestamp) {
+        String stepId = stepName + "_" + timestamp + "_" + stepExecutionOrder.size();
+        PerformanceMetric metric = new PerformanceMetric(stepName, stepDescription, actionType);
+        metric.timestamp = timestamp;
+        metric.responseTime = 0;
+        metric.loadTime = duration;
+        metric.totalTime = duration;
+        metric.status = status;
+        metric.completed = true;
+        while (stepMetrics.putIfAbsent(stepId, metric) != null) {
+            stepId = stepName + "_" + timestamp + "_" + duplicateIdCounter.incrementAndGet();
+        }
+        stepExecutionOrder.add(stepId);
+        OpenMetricsExporter.observeStep(metric);
+        return stepId;
+    }
+
     /**
      * Get all step metrics
      */
@@ -99,6 +234,13 @@ public class PerformanceTracker {
         return new ConcurrentHashMap<>(stepMetrics);
     }
     
+    /**
+     * Get one step's metric without copying the others, or null
+     */
+    public static PerformanceMetric getMetric(String stepId) {
+        return stepMetrics.get(stepId);
+    }
+    
     /**
      * Get step execution order
      */
@@ -106,6 +248,27 @@ public class PerformanceTracker {
         return new ArrayList<>(stepExecutionOrder);
     }
     
+    /**
+     * Total time per step name of the steps started from the given execution order position on, e.g.
+     * one run of a comparison; a step name that failed or did not finish there at least once is left out
+     */
+    public static Map<String, Long> stepTimesSince(int from) {
+        Map<String, Long> stepTimes = new LinkedHashMap<>();
+        Set<String> failed = new HashSet<>();
+        List<String> order = getExecutionOrder();
+        for (String stepId : order.subList(Math.min(from, order.size()), order.size())) {
+            PerformanceMetric metric = stepMetrics.get(stepId);
+            if (metric == null) continue;
+            if (!metric.completed || !"PASSED".equals(metric.status)) {
+                failed.add(metric.stepName);
+                continue;
+            }
+            stepTimes.merge(metric.stepName, metric.totalTime, Long::sum);
+        }
+        stepTimes.keySet().removeAll(failed);
+        return stepTimes;
+    }
+    
     /**
      * Get metrics for a specific step by name
      */
@@ -160,10 +323,45 @@ public class PerformanceTracker {
             .orElse(0.0) / 1000.0;
     }
     
+    /**
+     * Add a metric recorded elsewhere, e.g. in a shard's JVM; keeps both if the id is already taken
+     */
+    public static void importMetric(String stepId, PerformanceMetric metric) {
+        String id = stepId;
+        while (stepMetrics.putIfAbsent(id, metric) != null) {
+            id = stepId + "_" + duplicateIdCounter.incrementAndGet();
+        }
+        stepExecutionOrder.add(id);
+        if (metric.completed) {
+            OpenMetricsExporter.observeStep(metric);
+        }
+    }
+    
+    /**
+     * Drop metrics started before the cutoff so long-running monitors keep a rolling window
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        Set<String> evicted = new HashSet<>();
+        for (Map.Entry<String, PerformanceMetric> entry : stepMetrics.entrySet()) {
+            if (entry.getValue().timestamp < cutoffMillis) {
+                evicted.add(entry.getKey());
+            }
+        }
+        for (String stepId : evicted) {
+            stepMetrics.remove(stepId);
+            openStepEvents.remove(stepId);
+            browserTimings.remove(stepId);
+        }
+        stepExecutionOrder.removeAll(evicted);
+        return evicted.size();
+    }
+    
     /**
      * Clear all metrics
      */
     public static void clearMetrics() {
+        openStepEvents.clear();
+        browserTimings.clear();
         stepMetrics.clear();
         stepExecutionOrder.clear();
     }
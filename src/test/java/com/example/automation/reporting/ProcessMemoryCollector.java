@@ -0,0 +1,158 @@
+package com.example.automation.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resident memory of the browser and driver processes after each scenario, and the browser recycles
+ * it triggered, so slowdowns caused by a bloated long-lived browser are visible in the reports.
+ */
+public class ProcessMemoryCollector {
+
+    private static final List<Sample> samples = Collections.synchronizedList(new ArrayList<>());
+    private static final List<RecycleEvent> recycles = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Process memory after one scenario
+     */
+    public static class Sample {
+        public final String scenarioName;
+        public final int scenariosOnDriver; // Scenarios run by the current browser so far
+        public final long rssBytes; // Summed RSS of the driver and browser processes
+        public final int processCount;
+        public final long timestamp;
+        public boolean recycledAfter; // The browser was replaced after this scenario
+
+        public Sample(String scenarioName, int scenariosOnDriver, long rssBytes, int processCount) {
+            this.scenarioName = scenarioName;
+            this.scenariosOnDriver = scenariosOnDriver;
+            this.rssBytes = rssBytes;
+            this.processCount = processCount;
+            this.timestamp = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * A browser replaced after a scenario
+     */
+    public static class RecycleEvent {
+        public final String afterScenario;
+        public final String reason;
+        public final long rssBytes; // RSS of the retired browser
+        public final long timestamp;
+
+        public RecycleEvent(String afterScenario, String reason, long rssBytes) {
+            this.afterScenario = afterScenario;
+            this.reason = reason;
+            this.rssBytes = rssBytes;
+            this.timestamp = System.currentTimeMillis();
+        }
+    }
+
+    public static void recordSample(Sample sample) {
+        samples.add(sample);
+    }
+
+    public static void recordRecycle(RecycleEvent event) {
+        recycles.add(event);
+    }
+
+    public static List<Sample> getSamples() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    public static List<RecycleEvent> getRecycles() {
+        synchronized (recycles) {
+            return new ArrayList<>(recycles);
+        }
+    }
+
+    /**
+     * Drop samples and events recorded before the cutoff (rolling window for long-running monitors)
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        int evicted;
+        synchronized (samples) {
+            int before = samples.size();
+            samples.removeIf(sample -> sample.timestamp < cutoffMillis);
+            evicted = before - samples.size();
+        }
+        synchronized (recycles) {
+            int before = recycles.size();
+            recycles.removeIf(event -> event.timestamp < cutoffMillis);
+            evicted += before - recycles.size();
+        }
+        return evicted;
+    }
+
+    public static void clearSamples() {
+        samples.clear();
+        recycles.clear();
+    }
+
+    /**
+     * Report section with the browser memory curve by scenario and the recycles; empty without samples.
+     * Needs Chart.js on the page.
+     */
+    public static String renderSection() {
+        List<Sample> series = getSamples();
+        if (series.isEmpty()) return "";
+        List<RecycleEvent> events = getRecycles();
+
+        StringBuilder labels = new StringBuilder();
+        StringBuilder rss = new StringBuilder();
+        StringBuilder recycled = new StringBuilder();
+        for (int i = 0; i < series.size(); i++) {
+            Sample sample = series.get(i);
+            String separator = i == 0 ? "" : ", ";
+            labels.append(separator).append("'").append(i + 1).append("'");
+            rss.append(separator).append(String.format("%.1f", sample.rssBytes / 1048576.0));
+            // Mark the points after which the browser was replaced
+            recycled.append(separator).append(sample.recycledAfter ? String.format("%.1f", sample.rssBytes / 1048576.0) : "null");
+        }
+
+        StringBuilder html = new StringBuilder();
+        html.append("<div class=\"test-section\">");
+        html.append("<h2 class=\"section-title\">🧹 Browser Process Memory</h2>");
+        long peak = series.stream().mapToLong(sample -> sample.rssBytes).max().orElse(0);
+        html.append("<div style=\"color: #64748b; margin-bottom: 12px;\">Peak RSS <strong>")
+            .append(String.format("%.1f MB", peak / 1048576.0)).append("</strong> over ").append(series.size())
+            .append(" scenarios, ").append(events.size()).append(" browser recycle(s)</div>");
+        html.append("<div class=\"chart-container\"><h3 style=\"margin-bottom: 16px; color: #1a1a1a; font-size: 1.1em; font-weight: 600;\">")
+            .append("Browser + Driver RSS by Scenario</h3><div class=\"chart-wrapper\"><canvas id=\"processMemoryChart\"></canvas></div></div>");
+        html.append("<script>window.addEventListener('load', function() {")
+            .append("new Chart(document.getElementById('processMemoryChart').getContext('2d'), {type: 'line', data: {")
+            .append("labels: [").append(labels).append("], datasets: [")
+            .append("{label: 'RSS (MB)', data: [").append(rss).append("],")
+            .append(" borderColor: 'rgba(16, 185, 129, 1)', backgroundColor: 'rgba(16, 185, 129, 0.1)', tension: 0.3},")
+            .append("{label: 'Recycled after', data: [").append(recycled).append("], showLine: false,")
+            .append(" pointRadius: 7, pointStyle: 'crossRot', borderColor: 'rgba(239, 68, 68, 1)', borderWidth: 3}]},")
+            .append("options: {responsive: true, maintainAspectRatio: false, scales: {")
+            .append("y: {title: {display: true, text: 'RSS (MB)'}}, x: {title: {display: true, text: 'Scenario'}}}}});});</script>");
+
+        if (!events.isEmpty()) {
+            html.append("<table class=\"performance-table\"><thead><tr><th>Recycled After</th><th>Reason</th>")
+                .append("<th>RSS at Recycle</th></tr></thead><tbody>");
+            for (RecycleEvent event : events) {
+                html.append("<tr><td>").append(escapeHtml(event.afterScenario)).append("</td><td>")
+                    .append(escapeHtml(event.reason)).append("</td><td>")
+                    .append(String.format("%.1f MB", event.rssBytes / 1048576.0)).append("</td></tr>");
+            }
+            html.append("</tbody></table>");
+        }
+        html.append("</div>");
+        return html.toString();
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
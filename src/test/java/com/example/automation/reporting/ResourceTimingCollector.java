@@ -0,0 +1,84 @@
+package com.example.automation.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class ResourceTimingCollector {
+
+    private static final List<ResourceEntry> resourceEntries = Collections.synchronizedList(new ArrayList<>());
+
+    public static class ResourceEntry {
+        public String name; // Full resource URL
+        public String initiatorType; // "script", "img", "fetch", "xmlhttprequest", etc.
+        public long transferSize; // Bytes over the wire (0 when served from cache)
+        public long duration; // Fetch duration in milliseconds
+        public long timestamp; // When the entry was recorded
+
+        public ResourceEntry(String name, String initiatorType, long transferSize, long duration) {
+            this.name = name;
+            this.initiatorType = initiatorType;
+            this.transferSize = transferSize;
+            this.duration = duration;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        /**
+         * Resource URL without query string or fragment, used to match the same resource across runs
+         */
+        public String getKey() {
+            String key = name == null ? "" : name;
+            int cut = key.indexOf('?');
+            if (cut < 0) cut = key.indexOf('#');
+            return cut < 0 ? key : key.substring(0, cut);
+        }
+    }
+
+    /**
+     * Record entries as returned by performance.getEntriesByType('resource') mapped to plain objects
+     */
+    public static void recordEntries(Object entries) {
+        if (!(entries instanceof List)) return;
+
+        for (Object entry : (List<?>) entries) {
+            if (!(entry instanceof Map)) continue;
+            Map<?, ?> map = (Map<?, ?>) entry;
+            resourceEntries.add(new ResourceEntry(
+                String.valueOf(map.get("name")),
+                String.valueOf(map.get("initiatorType")),
+                toLong(map.get("transferSize")),
+                toLong(map.get("duration"))
+            ));
+        }
+    }
+
+    public static void importEntries(List<ResourceEntry> entries) {
+        resourceEntries.addAll(entries);
+    }
+
+    public static List<ResourceEntry> getAllEntries() {
+        synchronized (resourceEntries) {
+            return new ArrayList<>(resourceEntries);
+        }
+    }
+
+    /**
+     * Drop entries recorded before the cutoff (rolling window for long-running monitors)
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        synchronized (resourceEntries) {
+            int before = resourceEntries.size();
+            resourceEntries.removeIf(entry -> entry.timestamp < cutoffMillis);
+            return before - resourceEntries.size();
+        }
+    }
+
+    public static void clearEntries() {
+        resourceEntries.clear();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
@@ -0,0 +1,426 @@
+package com.example.automation.reporting;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares two run snapshots written by {@link RunSnapshot} and renders a diff report.
+ *
+ * Usage:
+ *   mvn -q exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=com.example.automation.reporting.RunDiffReportGenerator
+ *       -Dexec.args="baseline.json current.json [output.html]"
+ */
+public class RunDiffReportGenerator {
+
+    private static final Path DEFAULT_OUTPUT = Paths.get("target/custom-reports/run_diff_report.html");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RunDiffReportGenerator <baseline-snapshot.json> <current-snapshot.json> [output.html]");
+            System.exit(1);
+        }
+
+        RunSnapshot baseline = RunSnapshot.load(Paths.get(args[0]));
+        RunSnapshot current = RunSnapshot.load(Paths.get(args[1]));
+        Path output = args.length > 2 ? Paths.get(args[2]) : DEFAULT_OUTPUT;
+
+        generateDiffReport(baseline, current, output);
+    }
+
+    public static void generateDiffReport(RunSnapshot baseline, RunSnapshot current, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        String htmlContent = generateDiffHtmlContent(baseline, current);
+
+        try (FileWriter writer = new FileWriter(output.toFile())) {
+            writer.write(htmlContent);
+        }
+
+        System.out.println("Run diff report generated: " + output);
+    }
+
+    /**
+     * Per-step aggregate (several scenarios can run the same step)
+     */
+    private static class StepStats {
+        int count;
+        int failed;
+        long responseTime;
+        long loadTime;
+        long totalTime;
+
+        double avgResponse() { return count == 0 ? 0 : (double) responseTime / count; }
+        double avgLoad() { return count == 0 ? 0 : (double) loadTime / count; }
+        double avgTotal() { return count == 0 ? 0 : (double) totalTime / count; }
+    }
+
+    private static class ResourceStats {
+        int count;
+        long duration;
+        long transferSize;
+        String initiatorType;
+
+        double avgDuration() { return count == 0 ? 0 : (double) duration / count; }
+    }
+
+    private static Map<String, StepStats> aggregateSteps(RunSnapshot snapshot) {
+        Map<String, StepStats> stats = new LinkedHashMap<>();
+        for (String stepId : snapshot.executionOrder) {
+            PerformanceTracker.PerformanceMetric metric = snapshot.metrics.get(stepId);
+            StepStats s = stats.computeIfAbsent(metric.stepName, k -> new StepStats());
+            s.count++;
+            if ("FAILED".equals(metric.status)) s.failed++;
+            s.responseTime += metric.responseTime;
+            s.loadTime += metric.loadTime;
+            s.totalTime += metric.totalTime;
+        }
+        return stats;
+    }
+
+    private static Map<String, ResourceStats> aggregateResources(RunSnapshot snapshot) {
+        Map<String, ResourceStats> stats = new LinkedHashMap<>();
+        for (ResourceTimingCollector.ResourceEntry entry : snapshot.resources) {
+            ResourceStats s = stats.computeIfAbsent(entry.getKey(), k -> new ResourceStats());
+            s.count++;
+            s.duration += entry.duration;
+            s.transferSize += entry.transferSize;
+            s.initiatorType = entry.initiatorType;
+        }
+        return stats;
+    }
+
+    private static String generateDiffHtmlContent(RunSnapshot baseline, RunSnapshot current) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+
+        Map<String, StepStats> baselineSteps = aggregateSteps(baseline);
+        Map<String, StepStats> currentSteps = aggregateSteps(current);
+        Map<String, ResourceStats> baselineResources = aggregateResources(baseline);
+        Map<String, ResourceStats> currentResources = aggregateResources(current);
+
+        // Newly failing: failed now, and never failed in the baseline (or not present there)
+        List<String> newlyFailing = new ArrayList<>();
+        for (Map.Entry<String, StepStats> entry : currentSteps.entrySet()) {
+            StepStats before = baselineSteps.get(entry.getKey());
+            if (entry.getValue().failed > 0 && (before == null || before.failed == 0)) {
+                newlyFailing.add(entry.getKey());
+            }
+        }
+        List<String> newlyFailingTests = new ArrayList<>();
+        for (TestResultsCollector.TestResult result : current.results.values()) {
+            TestResultsCollector.TestResult before = baseline.results.get(result.testName);
+            if ("FAILED".equals(result.status) && (before == null || !"FAILED".equals(before.status))) {
+                newlyFailingTests.add(result.testName);
+            }
+        }
+
+        double baselineTotal = baselineSteps.values().stream().mapToLong(s -> s.totalTime).sum() / 1000.0;
+        double currentTotal = currentSteps.values().stream().mapToLong(s -> s.totalTime).sum() / 1000.0;
+
+        String html = """
+<!DOCTYPE html>
+<html lang="en">
+<head>
+    <meta charset="UTF-8">
+    <meta name="viewport" content="width=device-width, initial-scale=1.0">
+    <title>Yuba Run Comparison Report</title>
+    <style>
+        * { margin: 0; padding: 0; box-sizing: border-box; }
+        body {
+            font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', 'Helvetica Neue', sans-serif;
+            line-height: 1.6;
+            color: #2c3e50;
+            background: #f5f7fa;
+        }
+        .container { max-width: 1400px; margin: 0 auto; padding: 40px 20px; }
+        .header {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 40px;
+            margin-bottom: 30px;
+            box-shadow: 0 2px 8px rgba(0, 0, 0, 0.08);
+            border-left: 4px solid #0ea5e9;
+        }
+        .header h1 { color: #1a1a1a; font-size: 2em; font-weight: 600; }
+        .header .subtitle, .header .timestamp { color: #64748b; }
+        .stats-grid {
+            display: grid;
+            grid-template-columns: repeat(auto-fit, minmax(220px, 1fr));
+            gap: 20px;
+            margin-bottom: 30px;
+        }
+        .stat-card {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 24px;
+            text-align: center;
+            border: 1px solid #e2e8f0;
+        }
+        .stat-number { font-size: 2em; font-weight: 600; }
+        .stat-label { color: #64748b; font-size: 0.875em; text-transform: uppercase; }
+        .test-section {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 28px;
+            margin-bottom: 24px;
+            border: 1px solid #e2e8f0;
+        }
+        .section-title {
+            font-size: 1.4em;
+            color: #1a1a1a;
+            margin-bottom: 16px;
+            padding-bottom: 10px;
+            border-bottom: 2px solid #e2e8f0;
+        }
+        .diff-table { width: 100%; border-collapse: collapse; }
+        .diff-table thead { background: #1e293b; color: #ffffff; }
+        .diff-table th {
+            padding: 12px;
+            text-align: left;
+            font-weight: 600;
+            text-transform: uppercase;
+            font-size: 0.8em;
+        }
+        .diff-table td { padding: 10px 12px; border-bottom: 1px solid #ecf0f1; font-size: 0.9em; }
+        .diff-table tbody tr:hover { background: #f8f9fa; }
+        .slower { color: #e74c3c; font-weight: 600; }
+        .faster { color: #27ae60; font-weight: 600; }
+        .unchanged { color: #64748b; }
+        .failed { color: #e74c3c; }
+        .url-cell { word-break: break-all; max-width: 600px; }
+    </style>
+</head>
+<body>
+    <div class="container">
+        <div class="header">
+            <h1>Run Comparison Report</h1>
+            <div class="subtitle">Baseline: BASELINE_TIME &nbsp;|&nbsp; Current: CURRENT_TIME</div>
+            <div class="timestamp">Generated on: TIMESTAMP_PLACEHOLDER</div>
+        </div>
+
+        <div class="stats-grid">
+            <div class="stat-card">
+                <div class="stat-number">DIFF_BASELINE_TOTAL</div>
+                <div class="stat-label">Baseline Step Time (s)</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">DIFF_CURRENT_TOTAL</div>
+                <div class="stat-label">Current Step Time (s)</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number failed">DIFF_NEWLY_FAILING_COUNT</div>
+                <div class="stat-label">Newly Failing</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">DIFF_RESOURCE_COUNT</div>
+                <div class="stat-label">Changed Resources</div>
+            </div>
+        </div>
+
+        <div class="test-section">
+            <h2 class="section-title">❌ Newly Failing</h2>
+            <table class="diff-table">
+                <thead>
+                    <tr><th>Type</th><th>Name</th><th>Baseline Status</th></tr>
+                </thead>
+                <tbody>
+                    NEWLY_FAILING_ROWS
+                </tbody>
+            </table>
+        </div>
+
+        <div class="test-section">
+            <h2 class="section-title">⏱️ Per-Step Deltas (average per run of the step)</h2>
+            <table class="diff-table">
+                <thead>
+                    <tr>
+                        <th>Step Name</th>
+                        <th>Response (s)</th>
+                        <th>Δ Response</th>
+                        <th>Load (s)</th>
+                        <th>Δ Load</th>
+                        <th>Total (s)</th>
+                        <th>Δ Total</th>
+                    </tr>
+                </thead>
+                <tbody>
+                    STEP_DELTA_ROWS
+                </tbody>
+            </table>
+        </div>
+
+        <div class="test-section">
+            <h2 class="section-title">🌐 Resource Differences</h2>
+            <table class="diff-table">
+                <thead>
+                    <tr>
+                        <th>Resource</th>
+                        <th>Type</th>
+                        <th>Requests (base → current)</th>
+                        <th>Avg Duration (ms)</th>
+                        <th>Δ Duration</th>
+                        <th>Transfer (KB)</th>
+                    </tr>
+                </thead>
+                <tbody>
+                    RESOURCE_DELTA_ROWS
+                </tbody>
+            </table>
+        </div>
+    </div>
+</body>
+</html>
+""";
+
+        String resourceRows = generateResourceRows(baselineResources, currentResources);
+        int changedResources = resourceRows.isEmpty() ? 0 : resourceRows.split("<tr>").length - 1;
+
+        html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
+        html = html.replace("BASELINE_TIME", formatInstant(baseline.generatedAt));
+        html = html.replace("CURRENT_TIME", formatInstant(current.generatedAt));
+        html = html.replace("DIFF_BASELINE_TOTAL", String.format("%.2f", baselineTotal));
+        html = html.replace("DIFF_CURRENT_TOTAL", String.format("%.2f", currentTotal));
+        html = html.replace("DIFF_NEWLY_FAILING_COUNT", String.valueOf(newlyFailing.size() + newlyFailingTests.size()));
+        html = html.replace("DIFF_RESOURCE_COUNT", String.valueOf(changedResources));
+        html = html.replace("NEWLY_FAILING_ROWS", generateNewlyFailingRows(newlyFailing, newlyFailingTests, baselineSteps, baseline));
+        html = html.replace("STEP_DELTA_ROWS", generateStepDeltaRows(baselineSteps, currentSteps));
+        html = html.replace("RESOURCE_DELTA_ROWS", resourceRows.isEmpty()
+            ? "<tr><td colspan='6' style='text-align: center; padding: 30px; color: #64748b;'>No resource differences.</td></tr>"
+            : resourceRows);
+
+        return html;
+    }
+
+    private static String generateNewlyFailingRows(List<String> steps, List<String> tests,
+                                                   Map<String, StepStats> baselineSteps, RunSnapshot baseline) {
+        if (steps.isEmpty() && tests.isEmpty()) {
+            return "<tr><td colspan='3' style='text-align: center; padding: 30px; color: #64748b;'>No newly failing steps or tests.</td></tr>";
+        }
+
+        StringBuilder rows = new StringBuilder();
+        for (String step : steps) {
+            String before = baselineSteps.containsKey(step) ? "PASSED" : "NOT RUN";
+            rows.append("<tr><td>Step</td><td class='failed'>").append(escapeHtml(step))
+                .append("</td><td>").append(before).append("</td></tr>");
+        }
+        for (String test : tests) {
+            TestResultsCollector.TestResult before = baseline.results.get(test);
+            rows.append("<tr><td>Test</td><td class='failed'>").append(escapeHtml(test))
+                .append("</td><td>").append(before == null ? "NOT RUN" : escapeHtml(before.status)).append("</td></tr>");
+        }
+        return rows.toString();
+    }
+
+    private static String generateStepDeltaRows(Map<String, StepStats> baselineSteps, Map<String, StepStats> currentSteps) {
+        Set<String> stepNames = new LinkedHashSet<>(currentSteps.keySet());
+        stepNames.addAll(baselineSteps.keySet());
+        if (stepNames.isEmpty()) {
+            return "<tr><td colspan='7' style='text-align: center; padding: 30px; color: #64748b;'>No performance data in either snapshot.</td></tr>";
+        }
+
+        StringBuilder rows = new StringBuilder();
+        for (String stepName : stepNames) {
+            StepStats before = baselineSteps.get(stepName);
+            StepStats after = currentSteps.get(stepName);
+
+            rows.append("<tr>");
+            rows.append("<td>").append(escapeHtml(stepName)).append("</td>");
+            appendTimeDelta(rows, before == null ? null : before.avgResponse(), after == null ? null : after.avgResponse());
+            appendTimeDelta(rows, before == null ? null : before.avgLoad(), after == null ? null : after.avgLoad());
+            appendTimeDelta(rows, before == null ? null : before.avgTotal(), after == null ? null : after.avgTotal());
+            rows.append("</tr>");
+        }
+        return rows.toString();
+    }
+
+    private static void appendTimeDelta(StringBuilder rows, Double beforeMs, Double afterMs) {
+        rows.append("<td>").append(afterMs == null ? "—" : String.format("%.3f", afterMs / 1000.0)).append("</td>");
+        if (beforeMs == null || afterMs == null) {
+            rows.append("<td class='unchanged'>").append(beforeMs == null ? "new" : "removed").append("</td>");
+            return;
+        }
+        rows.append(formatDeltaCell(afterMs - beforeMs, beforeMs, "s", 1000.0));
+    }
+
+    private static String generateResourceRows(Map<String, ResourceStats> baselineResources, Map<String, ResourceStats> currentResources) {
+        Set<String> keys = new LinkedHashSet<>(currentResources.keySet());
+        keys.addAll(baselineResources.keySet());
+
+        // Largest absolute duration change first; added/removed resources count as a full change
+        List<String> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparingDouble((String key) -> {
+            ResourceStats before = baselineResources.get(key);
+            ResourceStats after = currentResources.get(key);
+            double b = before == null ? 0 : before.avgDuration();
+            double a = after == null ? 0 : after.avgDuration();
+            return Math.abs(a - b);
+        }).reversed());
+
+        StringBuilder rows = new StringBuilder();
+        for (String key : sorted) {
+            ResourceStats before = baselineResources.get(key);
+            ResourceStats after = currentResources.get(key);
+
+            boolean unchanged = before != null && after != null && before.count == after.count
+                && Math.abs(after.avgDuration() - before.avgDuration()) < 1.0
+                && before.transferSize == after.transferSize;
+            if (unchanged) continue;
+
+            String type = after != null ? after.initiatorType : before.initiatorType;
+            rows.append("<tr>");
+            rows.append("<td class='url-cell'>").append(escapeHtml(key)).append("</td>");
+            rows.append("<td>").append(escapeHtml(type)).append("</td>");
+            rows.append("<td>").append(before == null ? 0 : before.count).append(" → ")
+                .append(after == null ? 0 : after.count).append("</td>");
+            rows.append("<td>").append(after == null ? "—" : String.format("%.0f", after.avgDuration())).append("</td>");
+            if (before == null || after == null) {
+                rows.append("<td class='unchanged'>").append(before == null ? "added" : "removed").append("</td>");
+            } else {
+                rows.append(formatDeltaCell(after.avgDuration() - before.avgDuration(), before.avgDuration(), "ms", 1.0));
+            }
+            rows.append("<td>").append(String.format("%.1f → %.1f",
+                (before == null ? 0 : before.transferSize) / 1024.0,
+                (after == null ? 0 : after.transferSize) / 1024.0)).append("</td>");
+            rows.append("</tr>");
+        }
+        return rows.toString();
+    }
+
+    private static String formatDeltaCell(double delta, double base, String unit, double divisor) {
+        String cssClass = Math.abs(delta) < 1.0 ? "unchanged" : delta > 0 ? "slower" : "faster";
+        String percent = base > 0 ? String.format(" (%+.1f%%)", delta * 100.0 / base) : "";
+        String format = divisor == 1.0 ? "%+.0f" : "%+.3f";
+        return "<td class='" + cssClass + "'>" + String.format(format, delta / divisor) + unit + percent + "</td>";
+    }
+
+    private static String formatInstant(long epochMillis) {
+        if (epochMillis <= 0) return "unknown";
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.automation.reporting;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Serializable copy of one run's PerformanceTracker, TestResultsCollector and
+ * ResourceTimingCollector data, used to compare runs after the fact.
+ */
+public class RunSnapshot {
+
+    public static final Path DEFAULT_SNAPSHOT = Paths.get("target/custom-reports/run-snapshot.json");
+
+    private static final Json JSON = new Json();
+
+    public long generatedAt;
+    public final Map<String, PerformanceTracker.PerformanceMetric> metrics = new LinkedHashMap<>();
+    public final List<String> executionOrder = new ArrayList<>();
+    public final Map<String, TestResultsCollector.TestResult> results = new LinkedHashMap<>();
+    public final List<ResourceTimingCollector.ResourceEntry> resources = new ArrayList<>();
+
+    /**
+     * Capture the current run state
+     */
+    public static RunSnapshot capture() {
+        RunSnapshot snapshot = new RunSnapshot();
+        snapshot.generatedAt = System.currentTimeMillis();
+
+        Map<String, PerformanceTracker.PerformanceMetric> allMetrics = PerformanceTracker.getAllMetrics();
+        for (String stepId : PerformanceTracker.getExecutionOrder()) {
+            PerformanceTracker.PerformanceMetric metric = allMetrics.get(stepId);
+            if (metric != null) {
+                snapshot.metrics.put(stepId, metric);
+                snapshot.executionOrder.add(stepId);
+            }
+        }
+
+        Map<String, TestResultsCollector.TestResult> allResults = TestResultsCollector.getAllResults();
+        for (String testName : TestResultsCollector.getExecutionOrder()) {
+            TestResultsCollector.TestResult result = allResults.get(testName);
+            if (result != null) {
+                snapshot.results.put(testName, result);
+            }
+        }
+
+        snapshot.resources.addAll(ResourceTimingCollector.getAllEntries());
+        return snapshot;
+    }
+
+    /**
+     * Add this snapshot's data to the collectors, e.g. to report on runs made in other JVMs
+     */
+    public void restore() {
+        for (String stepId : executionOrder) {
+            PerformanceTracker.importMetric(stepId, metrics.get(stepId));
+        }
+        for (TestResultsCollector.TestResult result : results.values()) {
+            TestResultsCollector.importResult(result);
+        }
+        ResourceTimingCollector.importEntries(resources);
+    }
+
+    /**
+     * Write the current run state to the default snapshot file plus a timestamped copy
+     */
+    public static void writeCurrentRun() {
+        try {
+            RunSnapshot snapshot = capture();
+            snapshot.write(DEFAULT_SNAPSHOT);
+
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Path archived = DEFAULT_SNAPSHOT.resolveSibling("snapshots").resolve("run-" + stamp + ".json");
+            snapshot.write(archived);
+
+            System.out.println("Run snapshot written: " + DEFAULT_SNAPSHOT + " (archived as " + archived + ")");
+        } catch (IOException e) {
+            System.err.println("Error writing run snapshot: " + e.getMessage());
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, JSON.toJson(toMap()));
+    }
+
+    public static RunSnapshot load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            Map<String, Object> data = JSON.toType(reader, Json.MAP_TYPE);
+            return fromMap(data);
+        }
+    }
+
+    private Map<String, Object> toMap() {
+        List<Map<String, Object>> metricList = new ArrayList<>();
+        for (String stepId : executionOrder) {
+            PerformanceTracker.PerformanceMetric m = metrics.get(stepId);
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("stepId", stepId);
+            map.put("stepName", m.stepName);
+            map.put("stepDescription", m.stepDescription);
+            map.put("actionType", m.actionType);
+            map.put("status", m.status);
+            map.put("responseTime", m.responseTime);
+            map.put("loadTime", m.loadTime);
+            map.put("totalTime", m.totalTime);
+            map.put("timestamp", m.timestamp);
+            map.put("scenarioName", m.scenarioName);
+            map.put("tags", m.tags);
+            map.put("totalBlockingTime", m.totalBlockingTime);
+            map.put("longTaskCount", m.longTaskCount);
+            metricList.add(map);
+        }
+
+        List<Map<String, Object>> resultList = new ArrayList<>();
+        for (TestResultsCollector.TestResult r : results.values()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("testName", r.testName);
+            map.put("status", r.status);
+            map.put("duration", r.duration);
+            map.put("category", r.category);
+            map.put("details", r.details);
+            map.put("timestamp", r.timestamp);
+            map.put("responseTime", r.responseTime);
+            map.put("loadTime", r.loadTime);
+            map.put("artifactsPath", r.artifactsPath);
+            resultList.add(map);
+        }
+
+        List<Map<String, Object>> resourceList = new ArrayList<>();
+        for (ResourceTimingCollector.ResourceEntry e : resources) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", e.name);
+            map.put("initiatorType", e.initiatorType);
+            map.put("transferSize", e.transferSize);
+            map.put("duration", e.duration);
+            resourceList.add(map);
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("generatedAt", generatedAt);
+        data.put("metrics", metricList);
+        data.put("results", resultList);
+        data.put("resources", resourceList);
+        return data;
+    }
+
+    private static RunSnapshot fromMap(Map<String, Object> data) {
+        RunSnapshot snapshot = new RunSnapshot();
+        snapshot.generatedAt = toLong(data.get("generatedAt"));
+
+        for (Map<?, ?> map : listOfMaps(data.get("metrics"))) {
+            PerformanceTracker.PerformanceMetric metric = new PerformanceTracker.PerformanceMetric(
+                toStr(map.get("stepName")), toStr(map.get("stepDescription")), toStr(map.get("actionType")));
+            metric.status = toStr(map.get("status"));
+            metric.responseTime = toLong(map.get("responseTime"));
+            metric.loadTime = toLong(map.get("loadTime"));
+            metric.totalTime = toLong(map.get("totalTime"));
+            metric.timestamp = toLong(map.get("timestamp"));
+            metric.scenarioName = toStr(map.get("scenarioName"));
+            metric.totalBlockingTime = toLong(map.get("totalBlockingTime"));
+            metric.longTaskCount = (int) toLong(map.get("longTaskCount"));
+            metric.tags = new ArrayList<>();
+            if (map.get("tags") instanceof List) {
+                for (Object tag : (List<?>) map.get("tags")) metric.tags.add(String.valueOf(tag));
+            }
+            String stepId = toStr(map.get("stepId"));
+            snapshot.metrics.put(stepId, metric);
+            snapshot.executionOrder.add(stepId);
+        }
+
+        for (Map<?, ?> map : listOfMaps(data.get("results"))) {
+            TestResultsCollector.TestResult result = new TestResultsCollector.TestResult(
+                toStr(map.get("testName")), toStr(map.get("status")), toLong(map.get("duration")),
+                toStr(map.get("category")), toStr(map.get("details")),
+                toLong(map.get("responseTime")), toLong(map.get("loadTime")));
+            result.timestamp = toLong(map.get("timestamp"));
+            result.artifactsPath = map.get("artifactsPath") == null ? null : toStr(map.get("artifactsPath"));
+            snapshot.results.put(result.testName, result);
+        }
+
+        for (Map<?, ?> map : listOfMaps(data.get("resources"))) {
+            snapshot.resources.add(new ResourceTimingCollector.ResourceEntry(
+                toStr(map.get("name")), toStr(map.get("initiatorType")),
+                toLong(map.get("transferSize")), toLong(map.get("duration"))));
+        }
+
+        return snapshot;
+    }
+
+    private static List<Map<?, ?>> listOfMaps(Object value) {
+        List<Map<?, ?>> maps = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                if (item instanceof Map) maps.add((Map<?, ?>) item);
+            }
+        }
+        return maps;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static String toStr(Object value) {
+        return value == null ? null : String.valueOf(value);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.automation.reporting;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Scenario durations and outcomes across runs, keyed by feature location (e.g. "features/yuba_sim.feature:22").
+ * Each run is blended into a moving average kept in .perf-history/scenario-durations.json, outside
+ * target/ so it survives mvn clean; sharded runs balance their shards and order scenarios on it.
+ */
+public class ScenarioHistory {
+
+    public static final Path DEFAULT_FILE = Paths.get(".perf-history", "scenario-durations.json");
+
+    // Weight of the latest run in the moving average
+    private static final double SMOOTHING = 0.3;
+
+    private static final Json JSON = new Json();
+
+    // How long a failure keeps a scenario at the front of the queue (-Dscenario.history.recentFailureHours)
+    private static final long RECENT_FAILURE_MS = Long.getLong("scenario.history.recentFailureHours", 24) * 3_600_000;
+
+    private static final Map<String, Long> currentRun = new ConcurrentHashMap<>();
+    private static final Set<String> currentFailures = ConcurrentHashMap.newKeySet();
+
+    /**
+     * One scenario's history
+     */
+    public static class Entry {
+        public long averageDuration; // Moving average in milliseconds
+        public long lastDuration;
+        public int runs;
+        public String lastStatus; // "PASSED" or "FAILED"
+        public long lastFailedAt; // Epoch millis of the latest failure, 0 if it never failed
+
+        public Entry(long averageDuration, long lastDuration, int runs) {
+            this.averageDuration = averageDuration;
+            this.lastDuration = lastDuration;
+            this.runs = runs;
+        }
+
+        /**
+         * Failed in its last run, or within -Dscenario.history.recentFailureHours (default 24)
+         */
+        public boolean isRecentlyFailing() {
+            return "FAILED".equals(lastStatus) || System.currentTimeMillis() - lastFailedAt < RECENT_FAILURE_MS;
+        }
+    }
+
+    public static void recordScenario(String location, long durationMillis, boolean failed) {
+        currentRun.put(location, durationMillis);
+        if (failed) {
+            currentFailures.add(location);
+        } else {
+            currentFailures.remove(location);
+        }
+    }
+
+    public static Map<String, Long> getCurrentRun() {
+        return new TreeMap<>(currentRun);
+    }
+
+    public static Set<String> getCurrentFailures() {
+        return new TreeSet<>(currentFailures);
+    }
+
+    public static void clearCurrentRun() {
+        currentRun.clear();
+        currentFailures.clear();
+    }
+
+    /**
+     * Feature location of a Cucumber scenario URI and line, relative to the classpath
+     */
+    public static String locationOf(java.net.URI uri, int line) {
+        String path = uri.getSchemeSpecificPart().replace('\\', '/');
+        int features = path.lastIndexOf("features/");
+        return (features < 0 ? path : path.substring(features)) + ":" + line;
+    }
+
+    /**
+     * Blend this run's durations and outcomes into the default history file
+     */
+    public static void writeCurrentRun() {
+        if (currentRun.isEmpty()) return;
+        try {
+            Map<String, Entry> history = load(DEFAULT_FILE);
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, Long> run : getCurrentRun().entrySet()) {
+                Entry entry = history.get(run.getKey());
+                if (entry == null) {
+                    entry = new Entry(run.getValue(), run.getValue(), 1);
+                    history.put(run.getKey(), entry);
+                } else {
+                    entry.averageDuration = Math.round(SMOOTHING * run.getValue() + (1 - SMOOTHING) * entry.averageDuration);
+                    entry.lastDuration = run.getValue();
+                    entry.runs++;
+                }
+                boolean failed = currentFailures.contains(run.getKey());
+                entry.lastStatus = failed ? "FAILED" : "PASSED";
+                if (failed) entry.lastFailedAt = now;
+            }
+            write(DEFAULT_FILE, history);
+            System.out.println("Scenario history updated: " + DEFAULT_FILE + " (" + currentRun.size() + " scenarios)");
+        } catch (IOException e) {
+            System.err.println("Error writing scenario history: " + e.getMessage());
+        }
+    }
+
+    public static Map<String, Entry> load(Path path) throws IOException {
+        Map<String, Entry> history = new TreeMap<>();
+        if (!Files.exists(path)) return history;
+        try (Reader reader = Files.newBufferedReader(path)) {
+            Map<String, Object> data = JSON.toType(reader, Json.MAP_TYPE);
+            for (Map.Entry<String, Object> item : data.entrySet()) {
+                if (!(item.getValue() instanceof Map)) continue;
+                Map<?, ?> map = (Map<?, ?>) item.getValue();
+                Entry entry = new Entry(toLong(map.get("averageDuration")),
+                    toLong(map.get("lastDuration")), (int) toLong(map.get("runs")));
+                entry.lastStatus = map.get("lastStatus") == null ? null : String.valueOf(map.get("lastStatus"));
+                entry.lastFailedAt = toLong(map.get("lastFailedAt"));
+                history.put(item.getKey(), entry);
+            }
+        }
+        return history;
+    }
+
+    private static void write(Path path, Map<String, Entry> history) throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> item : history.entrySet()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("averageDuration", item.getValue().averageDuration);
+            map.put("lastDuration", item.getValue().lastDuration);
+            map.put("runs", item.getValue().runs);
+            map.put("lastStatus", item.getValue().lastStatus);
+            map.put("lastFailedAt", item.getValue().lastFailedAt);
+            data.put(item.getKey(), map);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, JSON.toJson(data));
+    }
+
+    /**
+     * Write this run's raw durations and failures, e.g. from a shard worker for the coordinating JVM to pick up
+     */
+    public static void writeRun(Path path) throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("durations", getCurrentRun());
+        data.put("failures", getCurrentFailures());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, JSON.toJson(data));
+    }
+
+    /**
+     * Add raw durations and failures written by writeRun() to this run
+     */
+    public static void readRun(Path path) throws IOException {
+        if (!Files.exists(path)) return;
+        try (Reader reader = Files.newBufferedReader(path)) {
+            Map<String, Object> data = JSON.toType(reader, Json.MAP_TYPE);
+            List<?> failures = data.get("failures") instanceof List ? (List<?>) data.get("failures") : List.of();
+            if (data.get("durations") instanceof Map) {
+                for (Map.Entry<?, ?> item : ((Map<?, ?>) data.get("durations")).entrySet()) {
+                    String location = String.valueOf(item.getKey());
+                    recordScenario(location, toLong(item.getValue()), failures.contains(location));
+                }
+            }
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class SimHtmlReportGenerator {
 
@@ -602,6 +603,10 @@ public class SimHtmlReportGenerator {
                 </div>
             </div>
             
+            FILMSTRIP_SECTION
+            FAILURES_SECTION
+            PROCESS_MEMORY_SECTION
+            
             <div class="test-section">
                 <h2 class="section-title">📋 Detailed Performance Metrics</h2>
                 <table class="performance-table">
@@ -822,6 +827,9 @@ public class SimHtmlReportGenerator {
         html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
         html = html.replace("PERF_DATA_JSON", performanceDataJson);
         html = html.replace("PERF_TABLE_ROWS", stepTableRows);
+        html = html.replace("FILMSTRIP_SECTION", Filmstrip.renderSection(filmstrip -> !filmstrip.label.contains("ACM")));
+        html = html.replace("FAILURES_SECTION", generateFailuresSection());
+        html = html.replace("PROCESS_MEMORY_SECTION", ProcessMemoryCollector.renderSection());
         html = html.replace("PERF_DATA_TOTAL_FORMATTED", formatDuration(totalExecutionTime)); // Replace longer placeholder first
         html = html.replace("PERF_DATA_AVG_RESPONSE", String.format("%.3f", avgResponseTime));
         html = html.replace("PERF_DATA_AVG_LOAD", String.format("%.3f", avgLoadTime));
@@ -840,12 +848,10 @@ public class SimHtmlReportGenerator {
         json.append("{\n");
         json.append("  stepLabels: [");
         
-        List<String> labels = executionOrder.stream()
-            .map(id -> {
-                PerformanceTracker.PerformanceMetric m = metrics.get(id);
-                return m != null ? "\"Step " + (executionOrder.indexOf(id) + 1) + "\"" : null;
-            })
-            .filter(l -> l != null)
+        // Label by position; indexOf per element made this quadratic in the step count
+        List<String> labels = IntStream.range(0, executionOrder.size())
+            .filter(i -> metrics.get(executionOrder.get(i)) != null)
+            .mapToObj(i -> "\"Step " + (i + 1) + "\"")
             .collect(Collectors.toList());
         json.append(String.join(", ", labels));
         json.append("],\n");
@@ -933,6 +939,28 @@ public class SimHtmlReportGenerator {
         }
     }
     
+    /**
+     * Failed scenarios outside the ACM and ARefresh reports, with links to their captured artifacts
+     */
+    private static String generateFailuresSection() {
+        StringBuilder rows = new StringBuilder();
+        for (String testName : TestResultsCollector.getExecutionOrder()) {
+            TestResultsCollector.TestResult result = TestResultsCollector.getAllResults().get(testName);
+            if (result == null || result.artifactsPath == null
+                    || "ACM".equals(result.category) || "ARefresh".equals(result.category)) continue;
+            String path = escapeHtml(result.artifactsPath);
+            rows.append("<tr><td>").append(escapeHtml(result.testName)).append("</td>")
+                .append("<td>").append(escapeHtml(result.details)).append("</td>")
+                .append("<td><a href='").append(path).append("/screenshot.png'>📎 screenshot</a> ")
+                .append("<a href='").append(path).append("/'>artifacts</a></td></tr>");
+        }
+        if (rows.length() == 0) return "";
+        return "<div class=\"test-section\">"
+            + "<h2 class=\"section-title\">📎 Failure Artifacts</h2>"
+            + "<table class=\"performance-table\"><thead><tr><th>Scenario</th><th>Details</th><th>Artifacts</th></tr></thead>"
+            + "<tbody>" + rows + "</tbody></table></div>";
+    }
+    
     private static String escapeHtml(String text) {
         if (text == null) return "";
         return text.replace("&", "&amp;")
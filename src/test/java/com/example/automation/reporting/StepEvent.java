@@ -0,0 +1,47 @@
+package com.example.automation.reporting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning one step tracked by PerformanceTracker (start to complete/fail).
+ */
+@Name("com.example.automation.Step")
+@Label("Test Step")
+@Category({"Yuba Automation", "Steps"})
+@Description("A step tracked by PerformanceTracker")
+@StackTrace(false)
+public class StepEvent extends Event {
+
+    @Label("Step Name")
+    public String stepName;
+
+    @Label("Description")
+    public String stepDescription;
+
+    @Label("Action Type")
+    public String actionType;
+
+    @Label("Scenario")
+    public String scenarioName;
+
+    @Label("Status")
+    public String status;
+
+    @Label("Response Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long responseTime;
+
+    @Label("Load Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long loadTime;
+
+    @Label("Total Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long totalTime;
+}
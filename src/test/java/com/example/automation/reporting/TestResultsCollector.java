@@ -1,14 +1,21 @@
 package com.example.automation.reporting;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.Map;
 
 public class TestResultsCollector {
     
     private static final Map<String, TestResult> testResults = new ConcurrentHashMap<>();
-    private static final List<String> testExecutionOrder = new ArrayList<>();
+    private static final List<String> testExecutionOrder = Collections.synchronizedList(new ArrayList<>());
+    private static final ThreadLocal<String> currentScenarioId = new ThreadLocal<>();
+    private static final AtomicLong scenarioRunCounter = new AtomicLong();
     
     public static class TestResult {
         public String testName;
@@ -19,6 +26,8 @@ public class TestResultsCollector {
         public long timestamp;
         public long responseTime; // Response time in milliseconds
         public long loadTime; // Load time in milliseconds
+        public String artifactsPath; // Failure artifacts, relative to target/custom-reports, if captured
+        public String scenarioId; // Scenario run that recorded the result on its thread, if any
         
         public TestResult(String testName, String status, long duration, String category, String details) {
             this.testName = testName;
@@ -29,6 +38,7 @@ public class TestResultsCollector {
             this.timestamp = System.currentTimeMillis();
             this.responseTime = 0;
             this.loadTime = duration;
+            this.scenarioId = currentScenarioId.get();
         }
         
         public TestResult(String testName, String status, long duration, String category, String details, long responseTime, long loadTime) {
@@ -40,31 +50,74 @@ public class TestResultsCollector {
             this.timestamp = System.currentTimeMillis();
             this.responseTime = responseTime;
             this.loadTime = loadTime;
+            this.scenarioId = currentScenarioId.get();
         }
     }
     
+    /**
+     * Attribute results recorded on this thread from now on to a new run of the scenario; returns the run's id
+     */
+    public static String beginScenario(String scenarioId) {
+        String runId = scenarioId + "#" + scenarioRunCounter.incrementAndGet();
+        currentScenarioId.set(runId);
+        return runId;
+    }
+    
     public static void recordTestResult(String testName, String status, long duration, String category, String details) {
         TestResult result = new TestResult(testName, status, duration, category, details);
-        testResults.put(testName, result);
-        
-        if (!testExecutionOrder.contains(testName)) {
+        // Re-recorded tests keep their original position
+        if (testResults.put(testName, result) == null) {
             testExecutionOrder.add(testName);
         }
+        OpenMetricsExporter.observeTest(result);
         
         System.out.println("📊 Test result recorded: " + testName + " - " + status + " (" + (duration/1000.0) + "s)");
     }
     
     public static void recordTestResult(String testName, String status, long duration, String category, String details, long responseTime, long loadTime) {
         TestResult result = new TestResult(testName, status, duration, category, details, responseTime, loadTime);
-        testResults.put(testName, result);
-        
-        if (!testExecutionOrder.contains(testName)) {
+        // Re-recorded tests keep their original position
+        if (testResults.put(testName, result) == null) {
             testExecutionOrder.add(testName);
         }
+        OpenMetricsExporter.observeTest(result);
         
         System.out.println("📊 Test result recorded: " + testName + " - " + status + " (Response: " + (responseTime/1000.0) + "s, Load: " + (loadTime/1000.0) + "s, Total: " + (duration/1000.0) + "s)");
     }
     
+    /**
+     * Report category of a scenario with these tags: "ACM" or "ARefresh" wherever the tag sits, else the fallback
+     */
+    public static String categoryForTags(Collection<String> tags, String fallback) {
+        if (tags.contains("@ACM")) return "ACM";
+        if (tags.contains("@ARefresh")) return "ARefresh";
+        return fallback;
+    }
+    
+    /**
+     * Add a result recorded elsewhere, e.g. in a shard's JVM
+     */
+    public static void importResult(TestResult result) {
+        if (testResults.put(result.testName, result) == null) {
+            testExecutionOrder.add(result.testName);
+        }
+        OpenMetricsExporter.observeTest(result);
+    }
+    
+    /**
+     * Link failure artifacts to the FAILED results of one scenario run (see beginScenario); returns how many were linked
+     */
+    public static int attachArtifacts(String scenarioRunId, String artifactsPath) {
+        int attached = 0;
+        for (TestResult result : testResults.values()) {
+            if ("FAILED".equals(result.status) && scenarioRunId.equals(result.scenarioId)) {
+                result.artifactsPath = artifactsPath;
+                attached++;
+            }
+        }
+        return attached;
+    }
+    
     public static Map<String, TestResult> getAllResults() {
         return new ConcurrentHashMap<>(testResults);
     }
@@ -73,6 +126,23 @@ public class TestResultsCollector {
         return new ArrayList<>(testExecutionOrder);
     }
     
+    /**
+     * Drop results recorded before the cutoff so long-running monitors keep a rolling window
+     */
+    public static int evictOlderThan(long cutoffMillis) {
+        Set<String> evicted = new HashSet<>();
+        for (Map.Entry<String, TestResult> entry : testResults.entrySet()) {
+            if (entry.getValue().timestamp < cutoffMillis) {
+                evicted.add(entry.getKey());
+            }
+        }
+        for (String testName : evicted) {
+            testResults.remove(testName);
+        }
+        testExecutionOrder.removeAll(evicted);
+        return evicted.size();
+    }
+    
     public static void clearResults() {
         testResults.clear();
         testExecutionOrder.clear();
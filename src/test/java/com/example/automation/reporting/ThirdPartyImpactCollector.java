@@ -0,0 +1,144 @@
+package com.example.automation.reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page measurements for the third-party impact experiment (see ThirdPartyImpactRunner): per scenario
+ * run, the load time its navigation steps recorded, the LCP of the page it ended on and the third-party
+ * origins that page requested, tagged with the origin blocked during the run (null for the baseline).
+ * Only collects while the experiment is running.
+ */
+public class ThirdPartyImpactCollector {
+
+    // Async script: LCP arrives through a buffered observer callback, so give it a moment
+    public static final String PAGE_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var result = {host: location.hostname, lcp: null, navigation: null, origins: {}};" +
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "if (nav && nav.loadEventEnd > 0) result.navigation = nav.loadEventEnd - nav.startTime;" +
+        "performance.getEntriesByType('resource').forEach(function(r) {" +
+        "  var origin;" +
+        "  try { origin = new URL(r.name).origin; } catch (e) { return; }" +
+        "  var o = result.origins[origin] || (result.origins[origin] = {requests: 0, bytes: 0});" +
+        "  o.requests++;" +
+        "  o.bytes += r.transferSize || 0;" +
+        "});" +
+        "try {" +
+        "  new PerformanceObserver(function(list) {" +
+        "    var entries = list.getEntries();" +
+        "    if (entries.length) result.lcp = entries[entries.length - 1].startTime;" +
+        "  }).observe({type: 'largest-contentful-paint', buffered: true});" +
+        "} catch (e) {}" +
+        "setTimeout(function() { done(result); }, 200);";
+
+    private static final List<PageSample> samples = Collections.synchronizedList(new ArrayList<>());
+
+    private static volatile boolean enabled = false;
+    private static volatile String blockedOrigin;
+
+    /**
+     * One scenario run under one condition
+     */
+    public static class PageSample {
+        public final String scenarioName;
+        public final String blockedOrigin; // null for a baseline run
+        public final boolean failed; // Blocking the origin can break the scenario itself
+        public final long loadTime; // Milliseconds, from the scenario's Performance results
+        public final Double lcp; // Milliseconds from navigation start; null when the browser reported none
+        public final Map<String, long[]> thirdPartyOrigins; // origin -> {requests, transfer bytes}
+
+        public PageSample(String scenarioName, String blockedOrigin, boolean failed, long loadTime, Double lcp,
+                          Map<String, long[]> thirdPartyOrigins) {
+            this.scenarioName = scenarioName;
+            this.blockedOrigin = blockedOrigin;
+            this.failed = failed;
+            this.loadTime = loadTime;
+            this.lcp = lcp;
+            this.thirdPartyOrigins = thirdPartyOrigins;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Origin blocked in the runs that follow; null for baseline runs
+     */
+    public static void setBlockedOrigin(String origin) {
+        blockedOrigin = origin;
+    }
+
+    /**
+     * Record a scenario from the PAGE_SCRIPT result; load time comes from the Performance results this
+     * run of the scenario recorded (see TestResultsCollector.beginScenario), falling back to the page's
+     * own navigation timing
+     */
+    public static void recordPage(String scenarioName, String scenarioRunId, boolean failed, Object pageResult) {
+        if (!(pageResult instanceof Map)) return;
+        Map<?, ?> page = (Map<?, ?>) pageResult;
+
+        long loadTime = 0;
+        for (TestResultsCollector.TestResult result : TestResultsCollector.getAllResults().values()) {
+            if (scenarioRunId.equals(result.scenarioId) && "Performance".equals(result.category)) {
+                loadTime += result.duration;
+            }
+        }
+        if (loadTime == 0 && page.get("navigation") instanceof Number) {
+            loadTime = Math.round(((Number) page.get("navigation")).doubleValue());
+        }
+        Double lcp = page.get("lcp") instanceof Number ? ((Number) page.get("lcp")).doubleValue() : null;
+
+        String site = siteOf(String.valueOf(page.get("host")));
+        Map<String, long[]> thirdParty = new LinkedHashMap<>();
+        if (page.get("origins") instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) page.get("origins")).entrySet()) {
+                String origin = String.valueOf(entry.getKey());
+                if (!origin.startsWith("http") || site.equals(siteOf(hostOf(origin)))) continue;
+                Map<?, ?> counts = (Map<?, ?>) entry.getValue();
+                thirdParty.put(origin, new long[] {toLong(counts.get("requests")), toLong(counts.get("bytes"))});
+            }
+        }
+
+        samples.add(new PageSample(scenarioName, blockedOrigin, failed, loadTime, lcp, thirdParty));
+        System.out.println("🧪 " + scenarioName + (blockedOrigin == null ? " (baseline)" : " without " + blockedOrigin)
+            + ": load " + loadTime + "ms, LCP " + (lcp == null ? "n/a" : Math.round(lcp) + "ms")
+            + ", " + thirdParty.size() + " third-party origins" + (failed ? " ❌ scenario failed" : ""));
+    }
+
+    public static List<PageSample> getSamples() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    public static void clearSamples() {
+        samples.clear();
+    }
+
+    /**
+     * Registrable part of a host, approximated by its last two labels (app.yubanow.com -> yubanow.com)
+     */
+    static String siteOf(String host) {
+        String[] labels = host.split("\\.");
+        return labels.length <= 2 ? host : labels[labels.length - 2] + "." + labels[labels.length - 1];
+    }
+
+    private static String hostOf(String origin) {
+        String host = origin.substring(origin.indexOf("://") + 3);
+        int port = host.indexOf(':');
+        return port < 0 ? host : host.substring(0, port);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.automation.reporting;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Renders the third-party impact experiment: for every third-party origin and scenario, the median
+ * load time and LCP with the origin blocked against the baseline median. A positive "saved" value is
+ * the time attributable to the origin; savings within half the baseline's min-max spread are greyed
+ * out as noise.
+ */
+public class ThirdPartyImpactReportGenerator {
+
+    public static final Path DEFAULT_OUTPUT = Paths.get("target/custom-reports/third_party_impact_report.html");
+
+    /**
+     * Medians of one scenario under one condition
+     */
+    private static class Condition {
+        final List<Long> loads = new ArrayList<>();
+        final List<Double> lcps = new ArrayList<>();
+        int runs;
+        int failed;
+
+        void add(ThirdPartyImpactCollector.PageSample sample) {
+            runs++;
+            if (sample.failed) {
+                failed++;
+                return;
+            }
+            loads.add(sample.loadTime);
+            if (sample.lcp != null) lcps.add(sample.lcp);
+        }
+
+        Double medianLoad() {
+            List<Double> values = new ArrayList<>();
+            loads.forEach(load -> values.add(load.doubleValue()));
+            return median(values);
+        }
+
+        Double medianLcp() {
+            return median(lcps);
+        }
+
+        double loadNoise() {
+            if (loads.size() < 2) return 0;
+            return (loads.stream().mapToLong(Long::longValue).max().getAsLong()
+                - loads.stream().mapToLong(Long::longValue).min().getAsLong()) / 2.0;
+        }
+    }
+
+    /**
+     * One table row: an origin's footprint on a scenario and its effect when blocked
+     */
+    private static class Impact {
+        String origin;
+        String scenario;
+        long requests;
+        long bytes;
+        Condition baseline;
+        Condition blocked;
+
+        double loadSaved() {
+            Double before = baseline.medianLoad();
+            Double after = blocked.medianLoad();
+            return before == null || after == null ? Double.NEGATIVE_INFINITY : before - after;
+        }
+    }
+
+    public static void generateReport(List<ThirdPartyImpactCollector.PageSample> samples, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (FileWriter writer = new FileWriter(output.toFile())) {
+            writer.write(generateHtmlContent(samples));
+        }
+
+        System.out.println("Third-party impact report generated: " + output);
+    }
+
+    private static String generateHtmlContent(List<ThirdPartyImpactCollector.PageSample> samples) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+
+        // Baselines per scenario, blocked runs per origin and scenario, footprint from the baselines
+        Map<String, Condition> baselines = new LinkedHashMap<>();
+        Map<String, Map<String, Condition>> blockedRuns = new TreeMap<>();
+        Map<String, Map<String, long[]>> footprint = new TreeMap<>();
+        for (ThirdPartyImpactCollector.PageSample sample : samples) {
+            if (sample.blockedOrigin == null) {
+                baselines.computeIfAbsent(sample.scenarioName, k -> new Condition()).add(sample);
+                for (Map.Entry<String, long[]> entry : sample.thirdPartyOrigins.entrySet()) {
+                    long[] seen = footprint.computeIfAbsent(entry.getKey(), k -> new LinkedHashMap<>())
+                        .computeIfAbsent(sample.scenarioName, k -> new long[2]);
+                    seen[0] = Math.max(seen[0], entry.getValue()[0]);
+                    seen[1] = Math.max(seen[1], entry.getValue()[1]);
+                }
+            } else {
+                blockedRuns.computeIfAbsent(sample.blockedOrigin, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(sample.scenarioName, k -> new Condition()).add(sample);
+            }
+        }
+
+        List<Impact> impacts = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Condition>> origin : blockedRuns.entrySet()) {
+            for (Map.Entry<String, Condition> scenario : origin.getValue().entrySet()) {
+                Condition baseline = baselines.get(scenario.getKey());
+                if (baseline == null) continue;
+                Impact impact = new Impact();
+                impact.origin = origin.getKey();
+                impact.scenario = scenario.getKey();
+                long[] seen = footprint.getOrDefault(impact.origin, Map.of()).getOrDefault(impact.scenario, new long[2]);
+                impact.requests = seen[0];
+                impact.bytes = seen[1];
+                impact.baseline = baseline;
+                impact.blocked = scenario.getValue();
+                impacts.add(impact);
+            }
+        }
+        impacts.sort(Comparator.comparingDouble(Impact::loadSaved).reversed());
+
+        int baselineRuns = baselines.values().stream().mapToInt(condition -> condition.runs).max().orElse(0);
+        long breaking = impacts.stream().filter(impact -> impact.blocked.failed > 0).map(impact -> impact.origin).distinct().count();
+
+        String html = """
+<!DOCTYPE html>
+<html lang="en">
+<head>
+    <meta charset="UTF-8">
+    <meta name="viewport" content="width=device-width, initial-scale=1.0">
+    <title>Yuba Third-Party Impact Report</title>
+    <style>
+        * { margin: 0; padding: 0; box-sizing: border-box; }
+        body {
+            font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Roboto', 'Helvetica Neue', sans-serif;
+            line-height: 1.6;
+            color: #2c3e50;
+            background: #f5f7fa;
+        }
+        .container { max-width: 1400px; margin: 0 auto; padding: 40px 20px; }
+        .header {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 40px;
+            margin-bottom: 30px;
+            box-shadow: 0 2px 8px rgba(0, 0, 0, 0.08);
+            border-left: 4px solid #8b5cf6;
+        }
+        .header h1 { color: #1a1a1a; font-size: 2em; font-weight: 600; }
+        .header .subtitle, .header .timestamp { color: #64748b; }
+        .stats-grid {
+            display: grid;
+            grid-template-columns: repeat(auto-fit, minmax(220px, 1fr));
+            gap: 20px;
+            margin-bottom: 30px;
+        }
+        .stat-card {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 24px;
+            text-align: center;
+            border: 1px solid #e2e8f0;
+        }
+        .stat-number { font-size: 2em; font-weight: 600; }
+        .stat-label { color: #64748b; font-size: 0.875em; text-transform: uppercase; }
+        .test-section {
+            background: #ffffff;
+            border-radius: 8px;
+            padding: 28px;
+            margin-bottom: 24px;
+            border: 1px solid #e2e8f0;
+        }
+        .section-title {
+            font-size: 1.4em;
+            color: #1a1a1a;
+            margin-bottom: 16px;
+            padding-bottom: 10px;
+            border-bottom: 2px solid #e2e8f0;
+        }
+        .impact-table { width: 100%; border-collapse: collapse; }
+        .impact-table thead { background: #1e293b; color: #ffffff; }
+        .impact-table th {
+            padding: 12px;
+            text-align: left;
+            font-weight: 600;
+            text-transform: uppercase;
+            font-size: 0.8em;
+        }
+        .impact-table td { padding: 10px 12px; border-bottom: 1px solid #ecf0f1; font-size: 0.9em; }
+        .impact-table tbody tr:hover { background: #f8f9fa; }
+        .saved { color: #27ae60; font-weight: 600; }
+        .costlier { color: #e74c3c; font-weight: 600; }
+        .unchanged { color: #64748b; }
+        .failed { color: #e74c3c; }
+        .url-cell { word-break: break-all; max-width: 420px; }
+    </style>
+</head>
+<body>
+    <div class="container">
+        <div class="header">
+            <h1>Third-Party Impact Report</h1>
+            <div class="subtitle">Each scenario rerun with one third-party origin blocked; deltas are medians against the unblocked baseline</div>
+            <div class="timestamp">Generated on: TIMESTAMP_PLACEHOLDER</div>
+        </div>
+
+        <div class="stats-grid">
+            <div class="stat-card">
+                <div class="stat-number">IMPACT_ORIGIN_COUNT</div>
+                <div class="stat-label">Origins Tested</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">IMPACT_SCENARIO_COUNT</div>
+                <div class="stat-label">Scenarios</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number">IMPACT_BASELINE_RUNS</div>
+                <div class="stat-label">Runs per Condition</div>
+            </div>
+            <div class="stat-card">
+                <div class="stat-number failed">IMPACT_BREAKING_COUNT</div>
+                <div class="stat-label">Origins Scenarios Depend On</div>
+            </div>
+        </div>
+
+        <div class="test-section">
+            <h2 class="section-title">🧪 Time Attributable to Each Origin</h2>
+            <table class="impact-table">
+                <thead>
+                    <tr>
+                        <th>Origin</th>
+                        <th>Scenario</th>
+                        <th>Requests</th>
+                        <th>Transfer (KB)</th>
+                        <th>Load (baseline → blocked)</th>
+                        <th>Load Saved</th>
+                        <th>LCP (baseline → blocked)</th>
+                        <th>LCP Saved</th>
+                    </tr>
+                </thead>
+                <tbody>
+                    IMPACT_ROWS
+                </tbody>
+            </table>
+        </div>
+    </div>
+</body>
+</html>
+""";
+
+        html = html.replace("TIMESTAMP_PLACEHOLDER", timestamp);
+        html = html.replace("IMPACT_ORIGIN_COUNT", String.valueOf(blockedRuns.size()));
+        html = html.replace("IMPACT_SCENARIO_COUNT", String.valueOf(baselines.size()));
+        html = html.replace("IMPACT_BASELINE_RUNS", String.valueOf(baselineRuns));
+        html = html.replace("IMPACT_BREAKING_COUNT", String.valueOf(breaking));
+        html = html.replace("IMPACT_ROWS", generateImpactRows(impacts));
+        return html;
+    }
+
+    private static String generateImpactRows(List<Impact> impacts) {
+        if (impacts.isEmpty()) {
+            return "<tr><td colspan='8' style='text-align: center; padding: 30px; color: #64748b;'>No third-party origins were observed.</td></tr>";
+        }
+
+        StringBuilder rows = new StringBuilder();
+        for (Impact impact : impacts) {
+            rows.append("<tr>");
+            rows.append("<td class='url-cell'>").append(escapeHtml(impact.origin)).append("</td>");
+            rows.append("<td>").append(escapeHtml(impact.scenario)).append("</td>");
+            rows.append("<td>").append(impact.requests).append("</td>");
+            rows.append("<td>").append(String.format("%.1f", impact.bytes / 1024.0)).append("</td>");
+            if (impact.blocked.failed == impact.blocked.runs) {
+                rows.append("<td colspan='4' class='failed'>❌ Scenario fails without this origin (")
+                    .append(impact.blocked.failed).append("/").append(impact.blocked.runs).append(" runs)</td>");
+            } else {
+                appendComparison(rows, impact.baseline.medianLoad(), impact.blocked.medianLoad(), impact.baseline.loadNoise());
+                appendComparison(rows, impact.baseline.medianLcp(), impact.blocked.medianLcp(), 0);
+            }
+            rows.append("</tr>");
+        }
+        return rows.toString();
+    }
+
+    private static void appendComparison(StringBuilder rows, Double baselineMs, Double blockedMs, double noiseMs) {
+        if (baselineMs == null || blockedMs == null) {
+            rows.append("<td>—</td><td class='unchanged'>n/a</td>");
+            return;
+        }
+        rows.append("<td>").append(String.format("%.0f → %.0f ms", baselineMs, blockedMs)).append("</td>");
+        double saved = baselineMs - blockedMs;
+        String cssClass = Math.abs(saved) <= Math.max(noiseMs, 1.0) ? "unchanged" : saved > 0 ? "saved" : "costlier";
+        String percent = baselineMs > 0 ? String.format(" (%.1f%%)", saved * 100.0 / baselineMs) : "";
+        rows.append("<td class='").append(cssClass).append("'>").append(String.format("%+.0f ms", saved))
+            .append(percent).append("</td>");
+    }
+
+    private static Double median(List<Double> values) {
+        if (values.isEmpty()) return null;
+        List<Double> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2.0;
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) return "";
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;")
+                   .replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.automation.reporting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning one WebDriver wait, emitted by InstrumentedWait.
+ */
+@Name("com.example.automation.Wait")
+@Label("WebDriver Wait")
+@Category({"Yuba Automation", "Waits"})
+@Description("A WebDriverWait.until call with its poll count and outcome")
+@StackTrace(false)
+public class WaitEvent extends Event {
+
+    @Label("Step Name")
+    @Description("Step that was running on this thread, if any")
+    public String stepName;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    public long timeout;
+
+    @Label("Poll Count")
+    @Description("Condition checks; for in-browser waits, documents the condition was checked in")
+    public int pollCount;
+
+    @Label("Outcome")
+    @Description("SATISFIED, TIMEOUT or ERROR")
+    public String outcome;
+}
@@ -0,0 +1,86 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.AbComparisonReportGenerator;
+import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.support.SiteConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Answers "is B slower than A?" for two deployments (e.g. prod and staging, or two local builds):
+ * runs the same scenarios against both base URLs in interleaved pairs within one JVM and browser,
+ * alternating which side goes first (AB, BA, AB, ...), so network and backend drift land on both
+ * sides equally. Per-step times come from PerformanceTracker; the report compares them pair by pair
+ * with a sign-flip permutation test. Fewer than 6 pairs can never reach p < 0.05, and with several
+ * steps compared the Holm adjustment asks for more.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.automation.runners.AbComparisonRunner
+ *     -Dab.baseUrlA=https://yubanow.com -Dab.baseUrlB=https://staging.yubanow.com -Dab.pairs=8
+ */
+public class AbComparisonRunner {
+
+    // Scenarios whose steps record PerformanceTracker metrics; others add nothing to the comparison
+    private static final String DEFAULT_TAGS = "@signin or @sim";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrlA = System.getProperty("ab.baseUrlA", SiteConfig.baseUrl());
+        String baseUrlB = System.getProperty("ab.baseUrlB");
+        if (baseUrlB == null || baseUrlB.isBlank()) {
+            System.err.println("Usage: -Dab.baseUrlB=<url> [-Dab.baseUrlA=<url>] [-Dab.pairs=8] [-Dab.tags=...]");
+            System.exit(1);
+        }
+        String tags = System.getProperty("ab.tags", DEFAULT_TAGS);
+        int pairs = Math.max(1, Integer.getInteger("ab.pairs", 8));
+
+        // One warm browser for both sides; this runner owns reports and shutdown
+        Hooks.setManagedRun(true);
+        List<Map<String, Long>> runsA = new ArrayList<>();
+        List<Map<String, Long>> runsB = new ArrayList<>();
+        long started = System.currentTimeMillis();
+        try {
+            for (int pair = 0; pair < pairs; pair++) {
+                boolean aFirst = pair % 2 == 0;
+                System.out.println("⚖️ Pair " + (pair + 1) + "/" + pairs + (aFirst ? " (A, B)" : " (B, A)"));
+                if (aFirst) {
+                    runsA.add(runSide("A", baseUrlA, tags));
+                    runsB.add(runSide("B", baseUrlB, tags));
+                } else {
+                    runsB.add(runSide("B", baseUrlB, tags));
+                    runsA.add(runSide("A", baseUrlA, tags));
+                }
+            }
+        } finally {
+            SiteConfig.setBaseUrl(null);
+            AbComparisonReportGenerator.generateReport(baseUrlA, baseUrlB, runsA, runsB,
+                AbComparisonReportGenerator.DEFAULT_OUTPUT);
+            Hooks.releaseDriver();
+        }
+        System.out.println("✅ A/B comparison finished in " + ((System.currentTimeMillis() - started) / 1000.0) + "s");
+        System.exit(0);
+    }
+
+    /**
+     * Run the scenarios against one base URL and return the total time per step name; steps that
+     * failed in the run are left out
+     */
+    private static Map<String, Long> runSide(String side, String baseUrl, String tags) {
+        SiteConfig.setBaseUrl(baseUrl);
+        int from = PerformanceTracker.getExecutionOrder().size();
+        try {
+            TestExecutionSummary summary = ScenarioLauncher.run(tags);
+            System.out.println("  " + side + " " + baseUrl + ": " + summary.getTestsSucceededCount() + " passed, "
+                + summary.getTotalFailureCount() + " failed");
+        } catch (Exception e) {
+            System.err.println("❌ Run of " + side + " did not complete: " + e.getMessage());
+        }
+        Map<String, Long> stepTimes = PerformanceTracker.stepTimesSince(from);
+        if (stepTimes.isEmpty()) {
+            System.err.println("⚠️ " + side + " run of '" + tags + "' produced no passed tracked steps to compare");
+        }
+        return stepTimes;
+    }
+}
@@ -9,7 +9,7 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
-@ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME, value = "pretty, summary, html:target/cucumber-reports/html-report, json:target/cucumber-reports/cucumber.json")
+@ConfigurationParameter(key = Constants.PLUGIN_PROPERTY_NAME, value = "pretty, summary, html:target/cucumber-reports/html-report, json:target/cucumber-reports/cucumber.json, message:target/cucumber-reports/cucumber.ndjson")
 public class CucumberTestRunnerTest {
     // JUnit Platform Suite runner for Cucumber BDD tests
     // Class name ends with "Test" to be discovered by Maven Surefire
@@ -0,0 +1,18 @@
+package com.example.automation.runners;
+
+import com.example.automation.support.DriverPool;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Starts the first browser as soon as the JUnit Platform launcher opens, before Cucumber scans glue
+ * and parses features, so the browser is usually up by the time @BeforeAll asks for it.
+ * Registered in META-INF/services; surefire and ScenarioLauncher both pick it up.
+ */
+public class DriverPrewarmListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        DriverPool.prewarmForSuite();
+    }
+}
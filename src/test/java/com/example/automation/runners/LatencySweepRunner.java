@@ -0,0 +1,98 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.LatencySweepReportGenerator;
+import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.support.LatencyInjector;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Sensitivity sweep: for each backend route, reruns the scenarios with increasing injected latency on
+ * that route alone (see LatencyInjector) and fits how each PerformanceTracker step time grows with it.
+ * A slope near 1 means the call sits on the step's critical path (near 2, it is awaited twice); near
+ * 0 means it is hidden behind other work. Routes and delays are visited in rotating order per round so
+ * drift is spread over all points.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.automation.runners.LatencySweepRunner
+ *     -Dlatency.sweep.routes="workspaces=*workspace*;credits=*credit*" -Dlatency.sweep.delays=0,500,1000,2000
+ */
+public class LatencySweepRunner {
+
+    private static final String DEFAULT_TAGS = "@sim";
+    private static final String DEFAULT_DELAYS = "0,500,1000,2000";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> routes = parseRoutes(System.getProperty("latency.sweep.routes", ""));
+        if (routes.isEmpty()) {
+            System.err.println("Usage: -Dlatency.sweep.routes=\"name=*pattern*;...\" [-Dlatency.sweep.delays=0,500,1000,2000]"
+                + " [-Dlatency.sweep.runs=2] [-Dlatency.sweep.tags=@sim]");
+            System.exit(1);
+        }
+        List<Long> delays = new ArrayList<>();
+        for (String delay : System.getProperty("latency.sweep.delays", DEFAULT_DELAYS).split(",")) {
+            delays.add(Long.parseLong(delay.trim()));
+        }
+        String tags = System.getProperty("latency.sweep.tags", DEFAULT_TAGS);
+        int runs = Math.max(1, Integer.getInteger("latency.sweep.runs", 2));
+
+        // One warm browser for the whole sweep; this runner owns reports and shutdown
+        Hooks.setManagedRun(true);
+        List<LatencySweepReportGenerator.Point> points = new ArrayList<>();
+        long started = System.currentTimeMillis();
+        try {
+            for (int round = 0; round < runs; round++) {
+                for (Map.Entry<String, String> route : routes.entrySet()) {
+                    for (int i = 0; i < delays.size(); i++) {
+                        // Rotate the starting delay each round so no delay always runs first
+                        long delay = delays.get((i + round) % delays.size());
+                        points.add(runPoint(route.getKey(), route.getValue(), delay, tags));
+                    }
+                }
+            }
+        } finally {
+            LatencyInjector.setRules(null);
+            LatencySweepReportGenerator.generateReport(points, LatencySweepReportGenerator.DEFAULT_OUTPUT);
+            Hooks.releaseDriver();
+        }
+        System.out.println("✅ Latency sweep finished in " + ((System.currentTimeMillis() - started) / 1000.0) + "s");
+        System.exit(0);
+    }
+
+    private static LatencySweepReportGenerator.Point runPoint(String route, String pattern, long delayMs, String tags) {
+        // A zero delay still intercepts, so every point pays the same interception overhead
+        LatencyInjector.setRules(pattern + "|delay=" + delayMs);
+        LatencyInjector.resetCounts();
+        int from = PerformanceTracker.getExecutionOrder().size();
+        try {
+            TestExecutionSummary summary = ScenarioLauncher.run(tags);
+            System.out.println("🐢 " + route + " +" + delayMs + "ms: " + summary.getTestsSucceededCount() + " passed, "
+                + summary.getTotalFailureCount() + " failed, " + LatencyInjector.getInterceptedCount(pattern)
+                + " requests delayed");
+        } catch (Exception e) {
+            System.err.println("❌ Run of " + route + " +" + delayMs + "ms did not complete: " + e.getMessage());
+        }
+        return new LatencySweepReportGenerator.Point(route, delayMs, LatencyInjector.getInterceptedCount(pattern),
+            PerformanceTracker.stepTimesSince(from));
+    }
+
+    /**
+     * "workspaces=*workspace*;credits=*credit*" -> route name to URL pattern
+     */
+    private static Map<String, String> parseRoutes(String spec) {
+        Map<String, String> routes = new LinkedHashMap<>();
+        for (String entry : spec.split(";")) {
+            int equals = entry.indexOf('=');
+            if (equals <= 0) {
+                if (!entry.isBlank()) System.err.println("Ignoring route without a name: " + entry);
+                continue;
+            }
+            routes.put(entry.substring(0, equals).trim(), entry.substring(equals + 1).trim());
+        }
+        return routes;
+    }
+}
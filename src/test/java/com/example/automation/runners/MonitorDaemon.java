@@ -0,0 +1,91 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.Filmstrip;
+import com.example.automation.reporting.LongTaskCollector;
+import com.example.automation.reporting.MemoryCollector;
+import com.example.automation.reporting.MetricsHttpServer;
+import com.example.automation.reporting.OpenMetricsExporter;
+import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.reporting.ProcessMemoryCollector;
+import com.example.automation.reporting.ResourceTimingCollector;
+import com.example.automation.reporting.TestResultsCollector;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Long-running synthetic monitor: loops tagged scenarios on a fixed schedule in one warm JVM
+ * and browser, keeping a rolling window of metrics for the /metrics endpoint.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.automation.runners.MonitorDaemon
+ *     -Dmonitor.tags="@performance or @signin" -Dmonitor.interval.seconds=300 -Dperf.metrics.port=9464
+ */
+public class MonitorDaemon {
+
+    private static final String DEFAULT_TAGS = "@performance or @signin";
+
+    private static volatile boolean running = true;
+
+    public static void main(String[] args) throws InterruptedException {
+        String tags = System.getProperty("monitor.tags", DEFAULT_TAGS);
+        long intervalMillis = Long.getLong("monitor.interval.seconds", 300) * 1000;
+        long windowMillis = Long.getLong("perf.window.minutes", 60) * 60_000;
+        long maxIterations = Long.getLong("monitor.iterations", 0); // 0 = run until stopped
+
+        Thread mainThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            running = false;
+            mainThread.interrupt();
+            try {
+                mainThread.join(30_000);
+            } catch (InterruptedException ignored) {
+                // JVM is going down anyway
+            }
+        }));
+
+        // Driver and metrics endpoint outlive the individual runs
+        Hooks.setManagedRun(true);
+        MetricsHttpServer.startIfConfigured();
+        System.out.println("🔁 Monitoring '" + tags + "' every " + (intervalMillis / 1000) + "s, window "
+            + (windowMillis / 60_000) + " min");
+
+        long iteration = 0;
+        try {
+            while (running && (maxIterations == 0 || iteration < maxIterations)) {
+                iteration++;
+                long started = System.currentTimeMillis();
+
+                try {
+                    TestExecutionSummary summary = ScenarioLauncher.run(tags);
+                    System.out.println("✅ Probe #" + iteration + ": " + summary.getTestsSucceededCount() + " passed, "
+                        + summary.getTotalFailureCount() + " failed in "
+                        + ((System.currentTimeMillis() - started) / 1000.0) + "s");
+                } catch (Exception e) {
+                    System.err.println("❌ Probe #" + iteration + " did not complete: " + e.getMessage());
+                }
+
+                long cutoff = System.currentTimeMillis() - windowMillis;
+                int evicted = PerformanceTracker.evictOlderThan(cutoff) + TestResultsCollector.evictOlderThan(cutoff)
+                    + ResourceTimingCollector.evictOlderThan(cutoff) + Filmstrip.evictOlderThan(cutoff)
+                    + LongTaskCollector.evictOlderThan(cutoff) + MemoryCollector.evictOlderThan(cutoff)
+                    + ProcessMemoryCollector.evictOlderThan(cutoff);
+                if (evicted > 0) {
+                    System.out.println("Evicted " + evicted + " entries older than the " + (windowMillis / 60_000) + " min window");
+                }
+                OpenMetricsExporter.writeMetricsFile();
+
+                long sleepMillis = started + intervalMillis - System.currentTimeMillis();
+                if (running && sleepMillis > 0 && (maxIterations == 0 || iteration < maxIterations)) {
+                    Thread.sleep(sleepMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            System.out.println("Monitor interrupted, shutting down");
+        } finally {
+            Hooks.setManagedRun(false);
+            Hooks.generateReports();
+            Hooks.releaseDriver();
+            MetricsHttpServer.stop();
+        }
+    }
+}
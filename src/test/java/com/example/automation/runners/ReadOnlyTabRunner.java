@@ -0,0 +1,41 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.support.DriverFactory;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Runs scenarios tagged @readonly concurrently over one browser: each Cucumber thread attaches its
+ * own driver session to the shared browser and works in a tab of its own (see DriverFactory), so
+ * many cheap read-only checks share one browser process instead of one browser per thread.
+ * Scenarios that change server-side state must not carry the tag.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.automation.runners.ReadOnlyTabRunner -Dreadonly.tabs=4
+ */
+public class ReadOnlyTabRunner {
+
+    private static final String READ_ONLY_TAG = "@readonly";
+
+    public static void main(String[] args) {
+        int tabs = Integer.getInteger("readonly.tabs", 4);
+        String tags = System.getProperty("readonly.tags", READ_ONLY_TAG);
+
+        // Shared browser for all threads; this runner owns reports and shutdown
+        System.setProperty("driver.sharedBrowser", "true");
+        Hooks.setManagedRun(true);
+
+        long started = System.currentTimeMillis();
+        long failures;
+        try {
+            TestExecutionSummary summary = ScenarioLauncher.runParallel(tags, tabs);
+            failures = summary.getTotalFailureCount();
+            System.out.println("✅ '" + tags + "' on " + tabs + " tabs: " + summary.getTestsSucceededCount()
+                + " passed, " + failures + " failed in " + ((System.currentTimeMillis() - started) / 1000.0) + "s");
+        } finally {
+            Hooks.generateReports();
+            DriverFactory.quitSharedBrowser();
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.automation.runners;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+
+import io.cucumber.junit.platform.engine.Constants;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.FilePosition;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Runs the Cucumber features in-process through the JUnit Platform launcher,
+ * so repeated runs reuse the same JVM, glue classes and browser.
+ */
+public final class ScenarioLauncher {
+
+    // One launcher per JVM; engines are discovered once
+    private static Launcher launcher;
+
+    private ScenarioLauncher() {
+        // utility class
+    }
+
+    /**
+     * Run the scenarios matching a Cucumber tag expression, e.g. "@performance or @signin"
+     */
+    public static TestExecutionSummary run(String tagExpression) {
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request()
+            .selectors(selectClasspathResource("features"))
+            .configurationParameter(Constants.PLUGIN_PROPERTY_NAME, "summary")
+            .configurationParameter(Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME, "true");
+        if (tagExpression != null && !tagExpression.isBlank()) {
+            request.configurationParameter(Constants.FILTER_TAGS_PROPERTY_NAME, tagExpression);
+        }
+        return execute(request.build());
+    }
+
+    /**
+     * Run the scenarios matching a tag expression concurrently on a fixed number of threads
+     */
+    public static TestExecutionSummary runParallel(String tagExpression, int threads) {
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request()
+            .selectors(selectClasspathResource("features"))
+            .configurationParameter(Constants.PLUGIN_PROPERTY_NAME, "summary")
+            .configurationParameter(Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME, "true")
+            .configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+            .configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
+            .configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, String.valueOf(threads))
+            .configurationParameter(Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME, String.valueOf(threads));
+        if (tagExpression != null && !tagExpression.isBlank()) {
+            request.configurationParameter(Constants.FILTER_TAGS_PROPERTY_NAME, tagExpression);
+        }
+        return execute(request.build());
+    }
+
+    /**
+     * Run individual scenarios by feature location, e.g. "features/yuba_sim.feature:22"
+     */
+    public static TestExecutionSummary runScenarios(List<String> locations) {
+        List<DiscoverySelector> selectors = new ArrayList<>();
+        for (String location : locations) {
+            int colon = location.lastIndexOf(':');
+            selectors.add(selectClasspathResource(location.substring(0, colon),
+                FilePosition.from(Integer.parseInt(location.substring(colon + 1)))));
+        }
+        return execute(LauncherDiscoveryRequestBuilder.request()
+            .selectors(selectors)
+            .configurationParameter(Constants.PLUGIN_PROPERTY_NAME, "summary")
+            .configurationParameter(Constants.PLUGIN_PUBLISH_QUIET_PROPERTY_NAME, "true")
+            .build());
+    }
+
+    /**
+     * Feature locations of the scenarios matching a tag expression (all scenarios when blank) with their
+     * tags, in feature order
+     */
+    public static synchronized Map<String, List<String>> discoverScenarios(String tagExpression) {
+        if (launcher == null) {
+            launcher = LauncherFactory.create();
+        }
+        // Cucumber applies tag filters at execution time, so discovery returns every pickle
+        Expression filter = tagExpression == null || tagExpression.isBlank()
+            ? null : TagExpressionParser.parse(tagExpression);
+        TestPlan plan = launcher.discover(LauncherDiscoveryRequestBuilder.request()
+            .selectors(selectClasspathResource("features"))
+            .build());
+
+        Map<String, List<String>> scenarios = new LinkedHashMap<>();
+        for (TestIdentifier root : plan.getRoots()) {
+            for (TestIdentifier test : plan.getDescendants(root)) {
+                if (!test.isTest() || !(test.getSource().orElse(null) instanceof ClasspathResourceSource)) continue;
+                List<String> tags = new ArrayList<>();
+                test.getTags().forEach(tag -> tags.add("@" + tag.getName()));
+                if (filter != null && !filter.evaluate(tags)) continue;
+                ClasspathResourceSource source = (ClasspathResourceSource) test.getSource().get();
+                source.getPosition().ifPresent(position ->
+                    scenarios.put(source.getClasspathResourceName() + ":" + position.getLine(), tags));
+            }
+        }
+        return scenarios;
+    }
+
+    static synchronized TestExecutionSummary execute(LauncherDiscoveryRequest request) {
+        if (launcher == null) {
+            launcher = LauncherFactory.create();
+        }
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        launcher.execute(request, listener);
+        return listener.getSummary();
+    }
+}
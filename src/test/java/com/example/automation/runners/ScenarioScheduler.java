@@ -0,0 +1,91 @@
+package com.example.automation.runners;
+
+import com.example.automation.reporting.ScenarioHistory;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Orders scenarios from their history instead of classpath order: shared preconditions first
+ * (-Dscenario.precondition.tags, default "@signin"), then recently failing scenarios, then the
+ * longest ones, so slow flows don't stretch the tail and a broken precondition shows up early.
+ * With -Dscenario.failfast=true, a failing precondition skips everything scheduled after it.
+ *
+ * Cucumber has no ordering hook on the JUnit Platform, so scenarios are launched one at a time
+ * in the same JVM and browser. Used by each shard; run with -Psharded -Dshards=1 for one ordered JVM.
+ */
+public final class ScenarioScheduler {
+
+    private static final String PRECONDITION_TAGS = System.getProperty("scenario.precondition.tags", "@signin");
+
+    private ScenarioScheduler() {
+        // utility class
+    }
+
+    /**
+     * Outcome of a scheduled run
+     */
+    public static class Outcome {
+        public long succeeded;
+        public long failed;
+        public boolean preconditionFailed;
+        public final List<String> skipped = new ArrayList<>();
+    }
+
+    public static boolean isFailFast() {
+        return Boolean.getBoolean("scenario.failfast");
+    }
+
+    /**
+     * Whether a scenario's tags match -Dscenario.precondition.tags
+     */
+    public static boolean isPrecondition(List<String> tags) {
+        if (PRECONDITION_TAGS.isBlank()) return false;
+        Expression expression = TagExpressionParser.parse(PRECONDITION_TAGS);
+        return expression.evaluate(tags);
+    }
+
+    /**
+     * Scenario locations in run order; scenarios without history are treated as long and untested
+     */
+    public static List<String> order(Map<String, List<String>> scenarios, Map<String, ScenarioHistory.Entry> history) {
+        List<String> ordered = new ArrayList<>(scenarios.keySet());
+        ordered.sort(Comparator
+            .comparing((String location) -> !isPrecondition(scenarios.get(location)))
+            .thenComparing(location -> {
+                ScenarioHistory.Entry entry = history.get(location);
+                return entry != null && !entry.isRecentlyFailing();
+            })
+            .thenComparing(location -> {
+                ScenarioHistory.Entry entry = history.get(location);
+                return entry == null ? Long.MAX_VALUE : entry.averageDuration;
+            }, Comparator.reverseOrder()));
+        return ordered;
+    }
+
+    /**
+     * Run the scenarios one by one in the given order, stopping after a failed precondition when fail-fast is on
+     */
+    public static Outcome run(List<String> ordered, Map<String, List<String>> scenarios) {
+        Outcome outcome = new Outcome();
+        for (int i = 0; i < ordered.size(); i++) {
+            String location = ordered.get(i);
+            TestExecutionSummary summary = ScenarioLauncher.runScenarios(List.of(location));
+            outcome.succeeded += summary.getTestsSucceededCount();
+            outcome.failed += summary.getTotalFailureCount();
+
+            if (summary.getTotalFailureCount() > 0 && isFailFast() && isPrecondition(scenarios.get(location))) {
+                outcome.preconditionFailed = true;
+                outcome.skipped.addAll(ordered.subList(i + 1, ordered.size()));
+                System.err.println("⛔ Precondition " + location + " failed"
+                    + (outcome.skipped.isEmpty() ? "" : ", skipping " + outcome.skipped.size() + " remaining scenarios"));
+                break;
+            }
+        }
+        return outcome;
+    }
+}
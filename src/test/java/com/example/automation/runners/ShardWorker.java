@@ -0,0 +1,62 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.RunSnapshot;
+import com.example.automation.reporting.ScenarioHistory;
+import com.example.automation.support.FailureArtifactCollector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Child JVM of a sharded run: runs the scenarios listed in its shard directory with its own browser,
+ * in ScenarioScheduler order, and leaves a run snapshot and scenario durations there for
+ * ShardedSuiteRunner to merge. Exits with PRECONDITION_FAILED when fail-fast stopped the shard.
+ *
+ * Usage: ShardWorker target/shards/shard-1
+ */
+public class ShardWorker {
+
+    static final String SCENARIOS_FILE = "scenarios.txt";
+    static final String SNAPSHOT_FILE = "run-snapshot.json";
+    static final String DURATIONS_FILE = "scenario-durations.json";
+    static final int PRECONDITION_FAILED = 2;
+
+    public static void main(String[] args) throws Exception {
+        Path shardDir = Paths.get(args[0]);
+        List<String> locations = new ArrayList<>();
+        for (String line : Files.readAllLines(shardDir.resolve(SCENARIOS_FILE))) {
+            if (!line.isBlank()) locations.add(line.trim());
+        }
+
+        // The coordinating JVM generates the reports once all shards are done
+        Hooks.setManagedRun(true);
+        long failures = 0;
+        boolean preconditionFailed = false;
+        try {
+            Map<String, List<String>> scenarios = new LinkedHashMap<>(ScenarioLauncher.discoverScenarios(null));
+            scenarios.keySet().retainAll(locations);
+            List<String> ordered = ScenarioScheduler.order(scenarios, ScenarioHistory.load(ScenarioHistory.DEFAULT_FILE));
+
+            ScenarioScheduler.Outcome outcome = ScenarioScheduler.run(ordered, scenarios);
+            failures = outcome.failed;
+            preconditionFailed = outcome.preconditionFailed;
+            System.out.println("✅ " + shardDir.getFileName() + ": " + outcome.succeeded + " passed, "
+                + failures + " failed, " + outcome.skipped.size() + " skipped");
+        } catch (Exception e) {
+            System.err.println("❌ " + shardDir.getFileName() + " did not complete: " + e.getMessage());
+            failures = 1;
+        } finally {
+            FailureArtifactCollector.awaitPendingWrites(Duration.ofSeconds(30));
+            RunSnapshot.capture().write(shardDir.resolve(SNAPSHOT_FILE));
+            ScenarioHistory.writeRun(shardDir.resolve(DURATIONS_FILE));
+            Hooks.releaseDriver();
+        }
+        System.exit(preconditionFailed ? PRECONDITION_FAILED : failures == 0 ? 0 : 1);
+    }
+}
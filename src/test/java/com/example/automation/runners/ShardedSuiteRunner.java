@@ -0,0 +1,204 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.RunSnapshot;
+import com.example.automation.reporting.ScenarioHistory;
+import com.example.automation.support.DriverPool;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the scenarios across N child JVMs, each with its own browser, and merges their results into
+ * one set of reports. Shards are bin-packed on historical scenario durations (longest first onto the
+ * least loaded shard) so the wall time approaches total / N; each shard runs in ScenarioScheduler order.
+ * With -Dscenario.failfast=true, precondition scenarios run first in shard-0 and a failure there
+ * skips the other shards.
+ *
+ * mvn -Psharded test -Dshards=4 [-Dcucumber.filter.tags="@sim"] [-Dscenario.failfast=true]
+ *     [-Dshard.jvmArgs="-Dperf.jfr=true -Dlatency.rules=..."]
+ *
+ * The profile starts this class in a new JVM, so other -D flags on the mvn command line do not reach
+ * it; pass them in shard.jvmArgs. Properties with a FORWARDED_PREFIXES prefix go on to every shard.
+ */
+public class ShardedSuiteRunner {
+
+    private static final Path SHARDS_DIR = Paths.get("target", "shards");
+
+    // Expected duration for scenarios without history when nothing else is known
+    private static final long DEFAULT_DURATION_MS = 60_000;
+
+    // Properties handed down to the shard JVMs
+    private static final String[] FORWARDED_PREFIXES = {
+        "perf.", "wait.", "arefresh.", "driver.", "webdriver.", "yuba.", "scenario.", "block.", "latency."
+    };
+
+    /**
+     * Scenarios assigned to one child JVM
+     */
+    static class Shard {
+        final int index;
+        final List<String> locations = new ArrayList<>();
+        long expectedDuration;
+
+        Shard(int index) {
+            this.index = index;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Only the shard JVMs drive browsers
+        DriverPool.setEnabled(false);
+        int shardCount = Integer.getInteger("shards", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        String tags = System.getProperty("cucumber.filter.tags", "");
+
+        Map<String, List<String>> scenarios = ScenarioLauncher.discoverScenarios(tags);
+        if (scenarios.isEmpty()) {
+            System.out.println("No scenarios match '" + tags + "'");
+            return;
+        }
+
+        Map<String, ScenarioHistory.Entry> history = ScenarioHistory.load(ScenarioHistory.DEFAULT_FILE);
+        List<String> locations = new ArrayList<>(scenarios.keySet());
+        List<Shard> launched = new ArrayList<>();
+        boolean failed = false;
+        long started = System.currentTimeMillis();
+
+        // Fail fast: a broken precondition (e.g. sign-in) stops the run before the other shards start
+        Shard preconditions = new Shard(0);
+        if (ScenarioScheduler.isFailFast()) {
+            for (String location : locations) {
+                if (ScenarioScheduler.isPrecondition(scenarios.get(location))) preconditions.locations.add(location);
+            }
+        }
+        if (!preconditions.locations.isEmpty() && preconditions.locations.size() < locations.size()) {
+            locations.removeAll(preconditions.locations);
+            System.out.println("🧩 shard-0: " + preconditions.locations.size() + " precondition scenarios first");
+            launched.add(preconditions);
+            int exitCode = launch(preconditions).waitFor();
+            if (exitCode != 0) {
+                failed = true;
+                System.err.println("⛔ Preconditions failed (exit " + exitCode + "), skipping " + locations.size()
+                    + " scenarios, see " + shardDir(preconditions).resolve("worker.log"));
+                locations.clear();
+            }
+        }
+
+        List<Shard> shards = locations.isEmpty() ? List.of() : plan(locations, history, shardCount);
+        for (Shard shard : shards) {
+            System.out.println("🧩 shard-" + shard.index + ": " + shard.locations.size() + " scenarios, ~"
+                + (shard.expectedDuration / 1000) + "s expected");
+        }
+
+        List<Process> processes = new ArrayList<>();
+        for (Shard shard : shards) {
+            processes.add(launch(shard));
+            launched.add(shard);
+        }
+
+        for (int i = 0; i < shards.size(); i++) {
+            int exitCode = processes.get(i).waitFor();
+            if (exitCode != 0) {
+                failed = true;
+                System.err.println("❌ shard-" + shards.get(i).index + " exited with " + exitCode + ", see "
+                    + shardDir(shards.get(i)).resolve("worker.log"));
+            }
+        }
+        long wallTime = System.currentTimeMillis() - started;
+
+        // Merge every shard's results and report once
+        long summedTime = 0;
+        for (Shard shard : launched) {
+            Path snapshotFile = shardDir(shard).resolve(ShardWorker.SNAPSHOT_FILE);
+            if (!Files.exists(snapshotFile)) {
+                System.err.println("shard-" + shard.index + " left no run snapshot");
+                failed = true;
+                continue;
+            }
+            RunSnapshot.load(snapshotFile).restore();
+            ScenarioHistory.readRun(shardDir(shard).resolve(ShardWorker.DURATIONS_FILE));
+        }
+        for (long duration : ScenarioHistory.getCurrentRun().values()) {
+            summedTime += duration;
+        }
+        Hooks.generateReports();
+
+        System.out.println("⏱️ Sharded run: " + (wallTime / 1000.0) + "s wall time over " + launched.size()
+            + " shards, " + (summedTime / 1000.0) + "s of scenarios");
+        System.exit(failed ? 1 : 0);
+    }
+
+    /**
+     * Longest-processing-time-first: each scenario, longest first, goes to the shard with the least
+     * expected work. Scenarios without history are assumed to take the median known duration.
+     */
+    static List<Shard> plan(List<String> locations, Map<String, ScenarioHistory.Entry> history, int shardCount) {
+        List<Long> known = new ArrayList<>();
+        for (String location : locations) {
+            ScenarioHistory.Entry entry = history.get(location);
+            if (entry != null) known.add(entry.averageDuration);
+        }
+        known.sort(null);
+        long fallback = known.isEmpty() ? DEFAULT_DURATION_MS : known.get(known.size() / 2);
+
+        List<String> ordered = new ArrayList<>(locations);
+        ordered.sort(Comparator.comparingLong((String location) -> {
+            ScenarioHistory.Entry entry = history.get(location);
+            return entry == null ? fallback : entry.averageDuration;
+        }).reversed());
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < Math.min(shardCount, locations.size()); i++) {
+            shards.add(new Shard(i + 1));
+        }
+        for (String location : ordered) {
+            Shard lightest = shards.get(0);
+            for (Shard shard : shards) {
+                if (shard.expectedDuration < lightest.expectedDuration) lightest = shard;
+            }
+            ScenarioHistory.Entry entry = history.get(location);
+            lightest.locations.add(location);
+            lightest.expectedDuration += entry == null ? fallback : entry.averageDuration;
+        }
+        return shards;
+    }
+
+    private static Process launch(Shard shard) throws IOException {
+        Path dir = shardDir(shard);
+        Files.createDirectories(dir);
+        Files.deleteIfExists(dir.resolve(ShardWorker.SNAPSHOT_FILE));
+        Files.deleteIfExists(dir.resolve(ShardWorker.DURATIONS_FILE));
+        Files.write(dir.resolve(ShardWorker.SCENARIOS_FILE), shard.locations);
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        for (String name : System.getProperties().stringPropertyNames()) {
+            for (String prefix : FORWARDED_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    command.add("-D" + name + "=" + System.getProperty(name));
+                    break;
+                }
+            }
+        }
+        command.add(ShardWorker.class.getName());
+        command.add(dir.toString());
+
+        File log = dir.resolve("worker.log").toFile();
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log)
+            .start();
+    }
+
+    private static Path shardDir(Shard shard) {
+        return SHARDS_DIR.resolve("shard-" + shard.index);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.automation.runners;
+
+import com.example.automation.hooks.Hooks;
+import com.example.automation.reporting.ThirdPartyImpactCollector;
+import com.example.automation.reporting.ThirdPartyImpactReportGenerator;
+import com.example.automation.support.RequestBlocker;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Measures what each third-party origin costs the homepage and dashboard loads: runs the scenarios
+ * once unblocked to find the origins their pages request, then reruns them with one origin blocked at
+ * a time (CDP Network.setBlockedURLs), interleaving fresh baseline runs between rounds so drift in the
+ * site or network hits both sides. The report lists the load time and LCP saved per origin, which
+ * tells which embeds are worth lazy-loading or dropping.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.automation.runners.ThirdPartyImpactRunner
+ *     -Dthirdparty.tags="@performance or @signin" -Dthirdparty.runs=3
+ */
+public class ThirdPartyImpactRunner {
+
+    private static final String DEFAULT_TAGS = "@performance or @signin";
+
+    public static void main(String[] args) throws Exception {
+        String tags = System.getProperty("thirdparty.tags", DEFAULT_TAGS);
+        int runs = Math.max(1, Integer.getInteger("thirdparty.runs", 3));
+        int maxOrigins = Integer.getInteger("thirdparty.maxOrigins", 0); // 0 = every observed origin
+
+        // One warm browser for all conditions; this runner owns reports and shutdown
+        Hooks.setManagedRun(true);
+        ThirdPartyImpactCollector.setEnabled(true);
+        long started = System.currentTimeMillis();
+        try {
+            runCondition(tags, null);
+
+            List<String> origins = observedOrigins();
+            if (maxOrigins > 0 && origins.size() > maxOrigins) {
+                origins = origins.subList(0, maxOrigins);
+            }
+            System.out.println("🧪 Testing " + origins.size() + " third-party origins over " + runs + " rounds");
+
+            for (int round = 1; round <= runs; round++) {
+                for (String origin : origins) {
+                    runCondition(tags, origin);
+                }
+                // The discovery run is the first baseline; later rounds each add one
+                if (round < runs && !origins.isEmpty()) {
+                    runCondition(tags, null);
+                }
+            }
+        } finally {
+            RequestBlocker.setOverride(null);
+            ThirdPartyImpactCollector.setEnabled(false);
+            ThirdPartyImpactReportGenerator.generateReport(ThirdPartyImpactCollector.getSamples(),
+                ThirdPartyImpactReportGenerator.DEFAULT_OUTPUT);
+            Hooks.releaseDriver();
+        }
+        System.out.println("✅ Third-party impact experiment finished in "
+            + ((System.currentTimeMillis() - started) / 1000.0) + "s");
+        System.exit(0);
+    }
+
+    /**
+     * Run the scenarios with one origin blocked, or with nothing blocked (not even the functional
+     * blocklist) when origin is null
+     */
+    private static void runCondition(String tags, String origin) {
+        RequestBlocker.setOverride(origin == null ? List.of() : List.of(origin + "/*"));
+        ThirdPartyImpactCollector.setBlockedOrigin(origin);
+        try {
+            TestExecutionSummary summary = ScenarioLauncher.run(tags);
+            System.out.println((origin == null ? "Baseline" : "Without " + origin) + ": "
+                + summary.getTestsSucceededCount() + " passed, " + summary.getTotalFailureCount() + " failed");
+        } catch (Exception e) {
+            System.err.println("❌ Run " + (origin == null ? "baseline" : "without " + origin) + " did not complete: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Third-party origins seen in the baseline runs, most requests first
+     */
+    private static List<String> observedOrigins() {
+        Map<String, Long> requests = new LinkedHashMap<>();
+        for (ThirdPartyImpactCollector.PageSample sample : ThirdPartyImpactCollector.getSamples()) {
+            if (sample.blockedOrigin != null) continue;
+            sample.thirdPartyOrigins.forEach((origin, counts) -> requests.merge(origin, counts[0], Long::sum));
+        }
+        List<String> origins = new ArrayList<>(requests.keySet());
+        origins.sort((a, b) -> Long.compare(requests.get(b), requests.get(a)));
+        return origins;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.automation.steps;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.InstrumentedWait;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -13,13 +14,12 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class WebFormSteps {
 
     private static final String WEB_FORM_URL = "https://www.selenium.dev/selenium/web/web-form.html";
     private final WebDriver driver = DriverFactory.getDriver();
-    private final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+    private final InstrumentedWait wait = new InstrumentedWait(driver, Duration.ofSeconds(5));
 
     @Given("I am on the Selenium web form page")
     public void i_am_on_the_selenium_web_form_page() {
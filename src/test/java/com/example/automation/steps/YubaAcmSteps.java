@@ -1,8 +1,17 @@
 package com.example.automation.steps;
 
+import com.example.automation.pages.AcmPage;
+import com.example.automation.pages.BasePage;
+import com.example.automation.reporting.MemoryCollector;
 import com.example.automation.reporting.PerformanceTracker;
 import com.example.automation.reporting.TestResultsCollector;
+import com.example.automation.support.BrowserTiming;
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.FilmstripRecorder;
+import com.example.automation.support.InstrumentedWait;
+import com.example.automation.support.LocatorRegistry;
+import com.example.automation.support.MemoryProbe;
+import com.example.automation.support.SelectorCompiler;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import java.time.Duration;
@@ -12,12 +21,12 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class YubaAcmSteps {
 
     private final WebDriver driver = DriverFactory.getDriver();
+    private final AcmPage acmPage = new AcmPage(driver);
     private String initialUrlBeforeSelection;
     private String urlBeforeElementSelection;
     private String finalUrlAfterSelection;
@@ -31,7 +40,7 @@ public class YubaAcmSteps {
             "navigation"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(20));
         
         // Store current URL before navigation (if not already set)
         if (initialUrlBeforeSelection == null || initialUrlBeforeSelection.isEmpty()) {
@@ -39,28 +48,26 @@ public class YubaAcmSteps {
         }
         System.out.println("Current URL before ACM navigation: " + initialUrlBeforeSelection);
         
-        // Wait for the navigation link to be present
-        WebElement navLink = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+        // Wait for the navigation link to be present, via its compiled selector once known
+        WebElement navLink = SelectorCompiler.find(driver, "click ACM navigation link " + xpath, xpath, Duration.ofSeconds(20));
         
         // Scroll to the navigation link
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", navLink);
         
         // Wait for navigation link to be clickable
-        navLink = extendedWait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+        navLink = extendedWait.until(ExpectedConditions.elementToBeClickable(navLink));
         
         // Click the navigation link
+        FilmstripRecorder filmstrip = FilmstripRecorder.start(driver, "ACM navigation: " + xpath);
         navLink.click();
+        BasePage.navigated();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for navigation to complete and page to fully load
         try {
             Thread.sleep(2000); // Give more time for page transition
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
             
             // Additional wait for dynamic content to load (Radix UI components)
             Thread.sleep(2000);
@@ -84,6 +91,8 @@ public class YubaAcmSteps {
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } finally {
+            filmstrip.stop();
         }
         
         long loadEndTime = System.currentTimeMillis();
@@ -102,7 +111,7 @@ public class YubaAcmSteps {
             "click"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(40));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(40));
         
         System.out.println("Looking for ACM element (Allocate Credits button)");
         System.out.println("Current URL: " + driver.getCurrentUrl());
@@ -114,79 +123,45 @@ public class YubaAcmSteps {
             Thread.currentThread().interrupt();
         }
         
-        WebElement element = null;
+        WebElement element;
         
-        // Try multiple selector strategies in order of reliability
+        // Race the selector strategies; the one that matched last run is probed first
         try {
-            // Strategy 1: Use data-slot attribute (most reliable)
-            System.out.println("Trying to find element by data-slot attribute...");
-            element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                By.cssSelector("button[data-slot='dropdown-menu-trigger']")
-            ));
-            System.out.println("✅ Found element using data-slot attribute");
-        } catch (Exception e1) {
-            System.out.println("data-slot selector failed, trying by text content...");
+            element = SelectorCompiler.find(driver, "click ACM element " + xpath, xpath, Duration.ofSeconds(40),
+                LocatorRegistry.Strategy.css("data-slot", "button[data-slot='dropdown-menu-trigger']"),
+                LocatorRegistry.Strategy.xpath("text", "//button[contains(., 'Allocate Credits')]"));
+        } catch (Exception e) {
+            PerformanceTracker.failStep(stepId, actionStartTime);
+            
+            // Record test failure in TestResultsCollector
+            long failureTime = System.currentTimeMillis() - actionStartTime;
+            TestResultsCollector.recordTestResult(
+                "ACM Test - Element Click Failed",
+                "FAILED",
+                failureTime,
+                "ACM",
+                "Failed to find ACM element (Allocate Credits button). Tried: data-slot, text content, and XPath. Error: " + e.getMessage()
+            );
+            
+            System.err.println("Failed to find ACM element after trying all strategies");
+            System.err.println("Error: " + e.getMessage());
+            
+            // Print available elements for debugging
             try {
-                // Strategy 2: Find by text content "Allocate Credits"
-                element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//button[contains(., 'Allocate Credits')]")
-                ));
-                System.out.println("✅ Found element using text content");
-            } catch (Exception e2) {
-                System.out.println("Text content selector failed, trying provided XPath...");
-                try {
-                    // Strategy 3: Try the provided XPath (fallback)
-                    // Use JavaScript XPath evaluation to handle special characters better
-                    JavascriptExecutor js = (JavascriptExecutor) driver;
-                    Object result = js.executeScript(
-                        "var xpath = arguments[0];" +
-                        "var result = document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null);" +
-                        "return result.singleNodeValue;",
-                        xpath
-                    );
-                    
-                    if (result != null && result instanceof WebElement) {
-                        element = (WebElement) result;
-                        System.out.println("✅ Found element using JavaScript XPath evaluation");
-                    } else {
-                        // Fallback to standard Selenium XPath
-                        element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
-                        System.out.println("✅ Found element using standard Selenium XPath");
-                    }
-                } catch (Exception e3) {
-                    PerformanceTracker.failStep(stepId, actionStartTime);
-                    
-                    // Record test failure in TestResultsCollector
-                    long failureTime = System.currentTimeMillis() - actionStartTime;
-                    TestResultsCollector.recordTestResult(
-                        "ACM Test - Element Click Failed",
-                        "FAILED",
-                        failureTime,
-                        "ACM",
-                        "Failed to find ACM element (Allocate Credits button). Tried: data-slot, text content, and XPath. Error: " + e3.getMessage()
-                    );
-                    
-                    System.err.println("Failed to find ACM element after trying all strategies");
-                    System.err.println("Error: " + e3.getMessage());
-                    
-                    // Print available elements for debugging
-                    try {
-                        List<WebElement> buttons = driver.findElements(By.cssSelector("button[data-slot]"));
-                        System.err.println("Available buttons with data-slot: " + buttons.size());
-                        for (int i = 0; i < Math.min(5, buttons.size()); i++) {
-                            WebElement el = buttons.get(i);
-                            System.err.println("  - Button " + (i+1) + ": data-slot='" + el.getAttribute("data-slot") + 
-                                "', text='" + el.getText() + "'");
-                        }
-                    } catch (Exception debugEx) {
-                        System.err.println("Could not list available buttons: " + debugEx.getMessage());
-                    }
-                    
-                    throw new org.openqa.selenium.TimeoutException(
-                        "Could not find ACM element (Allocate Credits button). " +
-                        "Tried: button[data-slot='dropdown-menu-trigger'], text 'Allocate Credits', and XPath: " + xpath, e3);
+                List<WebElement> buttons = driver.findElements(By.cssSelector("button[data-slot]"));
+                System.err.println("Available buttons with data-slot: " + buttons.size());
+                for (int i = 0; i < Math.min(5, buttons.size()); i++) {
+                    WebElement el = buttons.get(i);
+                    System.err.println("  - Button " + (i+1) + ": data-slot='" + el.getAttribute("data-slot") + 
+                        "', text='" + el.getText() + "'");
                 }
+            } catch (Exception debugEx) {
+                System.err.println("Could not list available buttons: " + debugEx.getMessage());
             }
+            
+            throw new org.openqa.selenium.TimeoutException(
+                "Could not find ACM element (Allocate Credits button). " +
+                "Tried: button[data-slot='dropdown-menu-trigger'], text 'Allocate Credits', and XPath: " + xpath, e);
         }
         
         // Scroll to the element
@@ -196,23 +171,23 @@ public class YubaAcmSteps {
         element = extendedWait.until(ExpectedConditions.elementToBeClickable(element));
         
         // Click the element
+        BrowserTiming timing = BrowserTiming.arm(driver, stepId);
         element.click();
+        timing.clicked();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for page to stabilize
+        long loadEndTime;
         try {
             Thread.sleep(2000);
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            loadEndTime = extendedWait.untilDocumentComplete();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            loadEndTime = System.currentTimeMillis();
         }
         
-        long loadEndTime = System.currentTimeMillis();
+        timing.apply(loadEndTime);
         PerformanceTracker.completeStep(stepId, actionStartTime, responseTime, loadEndTime);
         
         System.out.println("ACM element clicked successfully");
@@ -227,7 +202,7 @@ public class YubaAcmSteps {
             "click"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(30));
         
         // Store URL before selection (use this for comparison in verification)
         urlBeforeElementSelection = driver.getCurrentUrl();
@@ -240,91 +215,45 @@ public class YubaAcmSteps {
             Thread.currentThread().interrupt();
         }
         
-        // Wait for the element to be present using multiple strategies
-        WebElement element = null;
-        
+        // Race the selector strategies; the one that matched last run is probed first
+        WebElement element;
         try {
-            // Strategy 1: Use text content "Transfer Credits" (most reliable)
-            System.out.println("Trying to find menu item by text 'Transfer Credits'...");
-            element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                By.xpath("//div[@role='menuitem' and contains(., 'Transfer Credits')]")
-            ));
-            System.out.println("✅ Found element using text content");
-        } catch (Exception e1) {
-            System.out.println("Text content selector failed, trying to find all menu items and filter by text...");
+            element = SelectorCompiler.find(driver, "select ACM element " + xpath, xpath, Duration.ofSeconds(30),
+                LocatorRegistry.Strategy.xpath("text", "//div[@role='menuitem' and contains(., 'Transfer Credits')]"),
+                LocatorRegistry.Strategy.cssWithText("menu-item-filter",
+                    "div[role='menuitem'][data-slot='dropdown-menu-item']", "Transfer Credits"));
+        } catch (Exception e) {
+            PerformanceTracker.failStep(stepId, actionStartTime);
+            
+            // Record test failure in TestResultsCollector
+            long failureTime = System.currentTimeMillis() - actionStartTime;
+            TestResultsCollector.recordTestResult(
+                "ACM Test - Element Selection Failed",
+                "FAILED",
+                failureTime,
+                "ACM",
+                "Failed to find ACM menu item (Transfer Credits). Tried: text content, data-slot, and XPath. Error: " + e.getMessage()
+            );
+            
+            System.err.println("Failed to find ACM menu item after trying all strategies");
+            System.err.println("Error: " + e.getMessage());
+            
+            // Print available menu items for debugging
             try {
-                // Strategy 2: Find all menu items and filter by text
-                List<WebElement> menuItems = extendedWait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
-                    By.cssSelector("div[role='menuitem'][data-slot='dropdown-menu-item']")
-                ));
-                System.out.println("Found " + menuItems.size() + " menu items in dropdown");
-                for (WebElement item : menuItems) {
-                    String itemText = item.getText();
-                    System.out.println("  - Menu item text: '" + itemText + "'");
-                    if (itemText.contains("Transfer Credits")) {
-                        element = item;
-                        System.out.println("✅ Found element by filtering menu items");
-                        break;
-                    }
-                }
-                if (element == null) {
-                    throw new org.openqa.selenium.NoSuchElementException("Transfer Credits menu item not found in dropdown");
+                List<WebElement> menuItems = driver.findElements(By.cssSelector("div[role='menuitem']"));
+                System.err.println("Available menu items on page: " + menuItems.size());
+                for (int i = 0; i < Math.min(10, menuItems.size()); i++) {
+                    WebElement el = menuItems.get(i);
+                    System.err.println("  - Menu item " + (i+1) + ": text='" + el.getText() + 
+                        "', data-slot='" + el.getAttribute("data-slot") + "'");
                 }
-            } catch (Exception e2) {
-                    System.out.println("Menu item filtering failed, trying provided XPath...");
-                    try {
-                        // Strategy 4: Try the provided XPath (fallback)
-                        // Use JavaScript XPath evaluation to handle special characters better
-                        JavascriptExecutor js = (JavascriptExecutor) driver;
-                        Object result = js.executeScript(
-                            "var xpath = arguments[0];" +
-                            "var result = document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null);" +
-                            "return result.singleNodeValue;",
-                            xpath
-                        );
-                        
-                        if (result != null && result instanceof WebElement) {
-                            element = (WebElement) result;
-                            System.out.println("✅ Found element using JavaScript XPath evaluation");
-                        } else {
-                            // Fallback to standard Selenium XPath
-                            element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
-                            System.out.println("✅ Found element using standard Selenium XPath");
-                        }
-                    } catch (Exception e4) {
-                        PerformanceTracker.failStep(stepId, actionStartTime);
-                        
-                        // Record test failure in TestResultsCollector
-                        long failureTime = System.currentTimeMillis() - actionStartTime;
-                        TestResultsCollector.recordTestResult(
-                            "ACM Test - Element Selection Failed",
-                            "FAILED",
-                            failureTime,
-                            "ACM",
-                            "Failed to find ACM menu item (Transfer Credits). Tried: text content, data-slot, and XPath. Error: " + e4.getMessage()
-                        );
-                        
-                        System.err.println("Failed to find ACM menu item after trying all strategies");
-                        System.err.println("Error: " + e4.getMessage());
-                        
-                        // Print available menu items for debugging
-                        try {
-                            List<WebElement> menuItems = driver.findElements(By.cssSelector("div[role='menuitem']"));
-                            System.err.println("Available menu items on page: " + menuItems.size());
-                            for (int i = 0; i < Math.min(10, menuItems.size()); i++) {
-                                WebElement el = menuItems.get(i);
-                                System.err.println("  - Menu item " + (i+1) + ": text='" + el.getText() + 
-                                    "', data-slot='" + el.getAttribute("data-slot") + "'");
-                            }
-                        } catch (Exception debugEx) {
-                            System.err.println("Could not list available menu items: " + debugEx.getMessage());
-                        }
-                        
-                        throw new org.openqa.selenium.TimeoutException(
-                            "Could not find ACM menu item (Transfer Credits). " +
-                            "Tried: text content, data-slot attribute, and XPath: " + xpath, e4);
-                    }
+            } catch (Exception debugEx) {
+                System.err.println("Could not list available menu items: " + debugEx.getMessage());
             }
+            
+            throw new org.openqa.selenium.TimeoutException(
+                "Could not find ACM menu item (Transfer Credits). " +
+                "Tried: text content, data-slot attribute, and XPath: " + xpath, e);
         }
         
         // Scroll to the element
@@ -335,17 +264,14 @@ public class YubaAcmSteps {
         
         // Click/select the element
         element.click();
+        BasePage.navigated();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for potential page navigation/load
         try {
             Thread.sleep(3000); // Give more time for page to load
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -369,7 +295,7 @@ public class YubaAcmSteps {
             "verification"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(10));
         
         // Wait for page to potentially navigate/load after clicking the menu item
         try {
@@ -380,11 +306,7 @@ public class YubaAcmSteps {
         
         // Wait for page to stabilize (either new page loaded or stayed on same page)
         try {
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
         } catch (Exception e) {
             System.out.println("Page ready state check completed");
         }
@@ -407,7 +329,7 @@ public class YubaAcmSteps {
         
         try {
             pageTitleAfter = driver.getTitle();
-            String bodyText = driver.findElement(By.tagName("body")).getText();
+            String bodyText = acmPage.bodyText();
             
             // Check if page has substantial content
             pageContentChanged = bodyText.length() > 100;
@@ -497,6 +419,25 @@ public class YubaAcmSteps {
 
     @And("I click the refresh button")
     public void i_click_the_refresh_button() {
+        // -Darefresh.repeat=N refreshes N times and samples memory after a forced GC each time,
+        // so heap growth across iterations shows up in the ARefresh report
+        int repeat = Math.max(1, Integer.getInteger("arefresh.repeat", 1));
+        if (repeat > 1) {
+            MemoryCollector.recordIteration("ARefresh", 0, MemoryProbe.sample(driver, true));
+        }
+        
+        for (int iteration = 1; iteration <= repeat; iteration++) {
+            clickRefreshButton();
+            if (repeat > 1) {
+                MemoryCollector.MemorySample sample = MemoryProbe.sample(driver, true);
+                MemoryCollector.recordIteration("ARefresh", iteration, sample);
+                System.out.println("Refresh " + iteration + "/" + repeat + ": heap "
+                    + String.format("%.2f", sample.heapUsed / 1048576.0) + " MB, " + sample.domNodes + " DOM nodes");
+            }
+        }
+    }
+
+    private void clickRefreshButton() {
         long actionStartTime = System.currentTimeMillis();
         String stepId = PerformanceTracker.startStep(
             "Click refresh button",
@@ -504,73 +445,34 @@ public class YubaAcmSteps {
             "refresh"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(30));
         
         System.out.println("Looking for refresh button");
         System.out.println("Current URL: " + driver.getCurrentUrl());
         
-        WebElement refreshButton = null;
-        
-        // Try multiple selector strategies in order of reliability
+        WebElement refreshButton;
         try {
-            // Strategy 1: Use data-slot="button" and text "Refresh"
-            System.out.println("Trying to find refresh button by data-slot and text...");
-            refreshButton = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                By.xpath("//button[@data-slot='button' and contains(., 'Refresh')]")
-            ));
-            System.out.println("✅ Found refresh button using data-slot and text");
-        } catch (Exception e1) {
-            System.out.println("data-slot selector failed, trying by text content only...");
+            refreshButton = acmPage.refreshButton(Duration.ofSeconds(30));
+        } catch (Exception e) {
+            PerformanceTracker.failStep(stepId, actionStartTime);
+            System.err.println("Failed to find refresh button after trying all strategies");
+            System.err.println("Error: " + e.getMessage());
+            
+            // Print available buttons for debugging
             try {
-                // Strategy 2: Find by text content "Refresh"
-                refreshButton = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//button[contains(., 'Refresh')]")
-                ));
-                System.out.println("✅ Found refresh button using text content");
-            } catch (Exception e2) {
-                System.out.println("Text content selector failed, trying CSS selector...");
-                try {
-                    // Strategy 3: Try CSS selector with data-slot
-                    refreshButton = extendedWait.until(ExpectedConditions.presenceOfElementLocated(
-                        By.cssSelector("button[data-slot='button']")
-                    ));
-                    // Verify it contains "Refresh" text
-                    if (!refreshButton.getText().contains("Refresh")) {
-                        // Find all buttons with data-slot and filter by text
-                        List<WebElement> buttons = driver.findElements(By.cssSelector("button[data-slot='button']"));
-                        for (WebElement btn : buttons) {
-                            if (btn.getText().contains("Refresh")) {
-                                refreshButton = btn;
-                                break;
-                            }
-                        }
-                        if (refreshButton == null || !refreshButton.getText().contains("Refresh")) {
-                            throw new org.openqa.selenium.NoSuchElementException("Refresh button not found");
-                        }
-                    }
-                    System.out.println("✅ Found refresh button using CSS selector");
-                } catch (Exception e3) {
-                    PerformanceTracker.failStep(stepId, actionStartTime);
-                    System.err.println("Failed to find refresh button after trying all strategies");
-                    System.err.println("Error: " + e3.getMessage());
-                    
-                    // Print available buttons for debugging
-                    try {
-                        List<WebElement> buttons = driver.findElements(By.cssSelector("button"));
-                        System.err.println("Available buttons on page: " + buttons.size());
-                        for (int i = 0; i < Math.min(10, buttons.size()); i++) {
-                            WebElement btn = buttons.get(i);
-                            System.err.println("  - Button " + (i+1) + ": text='" + btn.getText() + 
-                                "', data-slot='" + btn.getAttribute("data-slot") + "'");
-                        }
-                    } catch (Exception debugEx) {
-                        System.err.println("Could not list available buttons: " + debugEx.getMessage());
-                    }
-                    
-                    throw new org.openqa.selenium.TimeoutException(
-                        "Could not find refresh button. Tried: data-slot with text, text content, and CSS selector.", e3);
+                List<WebElement> buttons = driver.findElements(By.cssSelector("button"));
+                System.err.println("Available buttons on page: " + buttons.size());
+                for (int i = 0; i < Math.min(10, buttons.size()); i++) {
+                    WebElement btn = buttons.get(i);
+                    System.err.println("  - Button " + (i+1) + ": text='" + btn.getText() + 
+                        "', data-slot='" + btn.getAttribute("data-slot") + "'");
                 }
+            } catch (Exception debugEx) {
+                System.err.println("Could not list available buttons: " + debugEx.getMessage());
             }
+            
+            throw new org.openqa.selenium.TimeoutException(
+                "Could not find refresh button. Tried: data-slot with text, text content, and CSS selector.", e);
         }
         
         // Scroll to the refresh button
@@ -585,6 +487,7 @@ public class YubaAcmSteps {
         
         // Click the refresh button - response time is when click completes
         refreshButton.click();
+        BasePage.navigated();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
@@ -596,11 +499,7 @@ public class YubaAcmSteps {
             Thread.sleep(500);
             
             // Wait for page to complete loading after refresh
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
             
             // Additional wait for dynamic content to load
             Thread.sleep(2000);
@@ -629,15 +528,11 @@ public class YubaAcmSteps {
             "verification"
         );
         
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(10));
         
         // Verify page is loaded
         try {
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
         } catch (Exception e) {
             System.out.println("Page ready state check completed");
         }
@@ -654,7 +549,7 @@ public class YubaAcmSteps {
         // Verify page is accessible and loaded
         boolean pageLoaded = false;
         try {
-            String bodyText = driver.findElement(By.tagName("body")).getText();
+            String bodyText = acmPage.bodyText();
             pageLoaded = bodyText.length() > 100 && "complete".equals(
                 ((JavascriptExecutor) driver).executeScript("return document.readyState")
             );
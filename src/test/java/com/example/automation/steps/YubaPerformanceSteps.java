@@ -2,7 +2,11 @@ package com.example.automation.steps;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.automation.pages.BasePage;
+import com.example.automation.pages.HomePage;
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.InstrumentedWait;
+import com.example.automation.support.SiteConfig;
 import com.example.automation.reporting.TestResultsCollector;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
@@ -18,13 +22,12 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class YubaPerformanceSteps {
 
-    private static final String YUBA_URL = "https://yubanow.com/";
     private final WebDriver driver = DriverFactory.getDriver();
-    private final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+    private final HomePage homePage = new HomePage(driver);
+    private final InstrumentedWait wait = new InstrumentedWait(driver, Duration.ofSeconds(15));
     private final JavascriptExecutor js = (JavascriptExecutor) driver;
     private long pageLoadStartTime;
     private long pageLoadEndTime;
@@ -32,7 +35,7 @@ public class YubaPerformanceSteps {
     @Given("I navigate to the Yuba website")
     public void i_navigate_to_the_yuba_website() {
         pageLoadStartTime = System.currentTimeMillis();
-        driver.navigate().to(YUBA_URL);
+        homePage.open();
     }
 
     @Given("I navigate to the Yuba website with desktop viewport")
@@ -40,7 +43,7 @@ public class YubaPerformanceSteps {
         // Set desktop viewport size (1920x1080)
         driver.manage().window().setSize(new Dimension(1920, 1080));
         pageLoadStartTime = System.currentTimeMillis();
-        driver.navigate().to(YUBA_URL);
+        homePage.open();
     }
 
     @Given("I navigate to the Yuba website using {word}")
@@ -49,12 +52,12 @@ public class YubaPerformanceSteps {
         // Note: Browser selection would need to be implemented in DriverFactory
         // For now, we use the default browser (Edge)
         pageLoadStartTime = System.currentTimeMillis();
-        driver.navigate().to(YUBA_URL);
+        homePage.open();
     }
 
     @When("the page loads")
     public void the_page_loads() {
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        wait.until(ExpectedConditions.presenceOfElementLocated(BasePage.BODY));
         wait.until(webDriver -> 
             js.executeScript("return document.readyState").equals("complete"));
         pageLoadEndTime = System.currentTimeMillis();
@@ -62,7 +65,7 @@ public class YubaPerformanceSteps {
 
     @When("the page loads completely")
     public void the_page_loads_completely() {
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        wait.until(ExpectedConditions.presenceOfElementLocated(BasePage.BODY));
         wait.until(webDriver -> 
             js.executeScript("return document.readyState").equals("complete"));
         // Wait a bit more for any dynamic content
@@ -79,10 +82,10 @@ public class YubaPerformanceSteps {
         String currentUrl = driver.getCurrentUrl();
         assertThat(currentUrl)
             .as("Website should load at the correct URL")
-            .contains("yubanow.com");
+            .contains(SiteConfig.host());
         
         // Verify page has content
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         assertThat(body.getText())
             .as("Page should have content")
             .isNotEmpty();
@@ -91,7 +94,7 @@ public class YubaPerformanceSteps {
     @And("the HTTP status code should be 200 OK")
     public void the_http_status_code_should_be_200_ok() {
         try {
-            URL url = new URL(YUBA_URL);
+            URL url = new URL(HomePage.url());
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("GET");
             connection.setConnectTimeout(5000);
@@ -113,7 +116,7 @@ public class YubaPerformanceSteps {
     public void there_should_be_no_server_errors() {
         String currentUrl = driver.getCurrentUrl();
         String pageSource = driver.getPageSource().toLowerCase();
-        String bodyText = driver.findElement(By.tagName("body")).getText().toLowerCase();
+        String bodyText = homePage.bodyText().toLowerCase();
         
         // Check for common error indicators
         assertThat(currentUrl)
@@ -147,7 +150,7 @@ public class YubaPerformanceSteps {
         long contentLoadStartTime = System.currentTimeMillis();
         
         // Wait for basic content to be loaded (more lenient than dashboard)
-        WebDriverWait contentWait = new WebDriverWait(driver, Duration.ofSeconds(25));
+        InstrumentedWait contentWait = new InstrumentedWait(driver, Duration.ofSeconds(25));
         
         try {
             contentWait.until(driver -> {
@@ -180,7 +183,7 @@ public class YubaPerformanceSteps {
                 
                 // For initial page load, don't wait for all images (more lenient)
                 // Just ensure basic content is present
-                String bodyText = driver.findElement(By.tagName("body")).getText();
+                String bodyText = homePage.bodyText();
                 if (bodyText.length() < 100) {
                     return false;
                 }
@@ -245,7 +248,7 @@ public class YubaPerformanceSteps {
             .isGreaterThanOrEqualTo(1024);
         
         // Check that main content is visible
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         assertThat(body.isDisplayed())
             .as("Main content should be visible")
             .isTrue();
@@ -315,7 +318,7 @@ public class YubaPerformanceSteps {
         }
         
         // At minimum, body should be visible and have content
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         assertThat(body.isDisplayed())
             .as("Body element should be visible")
             .isTrue();
@@ -329,7 +332,7 @@ public class YubaPerformanceSteps {
     @And("the page should render without errors")
     public void the_page_should_render_without_errors() {
         String pageSource = driver.getPageSource().toLowerCase();
-        String bodyText = driver.findElement(By.tagName("body")).getText().toLowerCase();
+        String bodyText = homePage.bodyText().toLowerCase();
         
         // Check for JavaScript errors in console (basic check)
         boolean hasError = pageSource.contains("error") && 
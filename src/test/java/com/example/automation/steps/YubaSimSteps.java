@@ -1,7 +1,14 @@
 package com.example.automation.steps;
 
+import com.example.automation.pages.BasePage;
+import com.example.automation.pages.ChooseWorkspacePage;
+import com.example.automation.pages.DashboardPage;
 import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.support.BrowserTiming;
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.FilmstripRecorder;
+import com.example.automation.support.InstrumentedWait;
+import com.example.automation.support.SelectorCompiler;
 import io.cucumber.java.en.And;
 import java.time.Duration;
 import org.openqa.selenium.By;
@@ -9,13 +16,13 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class YubaSimSteps {
 
     private final WebDriver driver = DriverFactory.getDriver();
-    private final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-    private static final String CHOOSE_WORKSPACE_URL = "https://yubanow.com/choose-workspace";
+    private final InstrumentedWait wait = new InstrumentedWait(driver, Duration.ofSeconds(10));
+    private final ChooseWorkspacePage chooseWorkspacePage = new ChooseWorkspacePage(driver);
+    private final DashboardPage dashboardPage = new DashboardPage(driver);
 
     @And("I wait for navigation to choose workspace page")
     public void i_wait_for_navigation_to_choose_workspace_page() {
@@ -27,7 +34,7 @@ public class YubaSimSteps {
         );
         
         // Wait for navigation to the choose-workspace page
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(60));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(60));
         
         String initialUrl = driver.getCurrentUrl();
         System.out.println("Initial URL after sign-in: " + initialUrl);
@@ -43,8 +50,7 @@ public class YubaSimSteps {
                                        !currentUrl.equals(initialUrl);
                 
                 // Also check if we're on choose-workspace page
-                boolean isChooseWorkspace = currentUrl.contains("choose-workspace") || 
-                                           currentUrl.equals(CHOOSE_WORKSPACE_URL);
+                boolean isChooseWorkspace = ChooseWorkspacePage.isAt(currentUrl);
                 
                 if (navigatedAway || isChooseWorkspace) {
                     System.out.println("Navigation detected. Current URL: " + currentUrl);
@@ -55,32 +61,14 @@ public class YubaSimSteps {
             
             String currentUrl = driver.getCurrentUrl();
             System.out.println("After navigation, current URL: " + currentUrl);
+            BasePage.navigated();
             
             // If we're on choose-workspace page, wait for it to load
-            if (currentUrl.contains("choose-workspace") || currentUrl.equals(CHOOSE_WORKSPACE_URL)) {
+            if (ChooseWorkspacePage.isAt(currentUrl)) {
                 // Wait for the page to fully load - check for workspace content
                 extendedWait.until(driver -> {
                     try {
-                        String bodyText = driver.findElement(By.tagName("body")).getText().toLowerCase();
-                        
-                        // Check if workspace content is visible (workspace options, "choose your workspace", etc.)
-                        boolean hasWorkspaceContent = bodyText.contains("choose your workspace") || 
-                                                     bodyText.contains("select a workspace") ||
-                                                     bodyText.contains("workspace") ||
-                                                     bodyText.contains("continue");
-                        
-                        // Check if loading text is gone (if it was present)
-                        boolean loadingGone = !bodyText.contains("loading your workspaces");
-                        
-                        // Page is ready if we have workspace content and loading is gone (or never was present)
-                        // OR if we have substantial content (more than 200 chars)
-                        boolean pageReady = (hasWorkspaceContent && loadingGone) || bodyText.length() > 200;
-                        
-                        if (!pageReady) {
-                            System.out.println("Waiting for workspace page to load... Body length: " + bodyText.length());
-                        }
-                        
-                        return pageReady;
+                        return chooseWorkspacePage.isLoaded();
                     } catch (Exception e) {
                         System.out.println("Exception checking page load: " + e.getMessage());
                         return false;
@@ -88,11 +76,7 @@ public class YubaSimSteps {
                 });
                 
                 // Additional wait for document ready state
-                extendedWait.until(driver -> {
-                    JavascriptExecutor js = (JavascriptExecutor) driver;
-                    String readyState = (String) js.executeScript("return document.readyState");
-                    return "complete".equals(readyState);
-                });
+                extendedWait.untilDocumentComplete();
                 
                 // Small delay to ensure all dynamic content is loaded
                 try {
@@ -112,7 +96,7 @@ public class YubaSimSteps {
                 PerformanceTracker.completeStep(stepId, actionStartTime, responseTime, loadEndTime);
             } else {
                 System.out.println("WARNING: Not on choose-workspace page. Current URL: " + currentUrl);
-                System.out.println("Page body text preview: " + driver.findElement(By.tagName("body")).getText().substring(0, Math.min(200, driver.findElement(By.tagName("body")).getText().length())));
+                System.out.println("Page body text preview: " + chooseWorkspacePage.bodyPreview(200));
                 
                 long loadEndTime = System.currentTimeMillis();
                 PerformanceTracker.completeStep(stepId, actionStartTime, loadEndTime);
@@ -123,7 +107,7 @@ public class YubaSimSteps {
             String pageTitle = driver.getTitle();
             String bodyText = "";
             try {
-                bodyText = driver.findElement(By.tagName("body")).getText().substring(0, Math.min(500, driver.findElement(By.tagName("body")).getText().length()));
+                bodyText = chooseWorkspacePage.bodyPreview(500);
             } catch (Exception ex) {
                 bodyText = "Could not get body text";
             }
@@ -143,8 +127,8 @@ public class YubaSimSteps {
 
     @And("I select the element {string}")
     public void i_select_the_element(String xpath) {
-        // Wait for the element to be present and visible
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+        // Wait for the element to be present, via its compiled selector once known
+        WebElement element = SelectorCompiler.find(driver, "select element " + xpath, xpath, Duration.ofSeconds(10));
         
         // Scroll to the element
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
@@ -153,12 +137,8 @@ public class YubaSimSteps {
         wait.until(ExpectedConditions.elementToBeClickable(element)).click();
         
         // Wait for page to stabilize after selection - wait for document ready state
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        extendedWait.until(driver -> {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            String readyState = (String) js.executeScript("return document.readyState");
-            return "complete".equals(readyState);
-        });
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(15));
+        extendedWait.untilDocumentComplete();
         
         // Additional wait for any dynamic content to load
         try {
@@ -178,16 +158,16 @@ public class YubaSimSteps {
         );
         
         // Wait for the element to be present and visible on the choose-workspace page
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(30));
         
-        // Wait for the element to be present first
-        WebElement element = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+        // Wait for the element to be present first, via its compiled selector once known
+        WebElement element = SelectorCompiler.find(driver, "click element " + xpath, xpath, Duration.ofSeconds(30));
         
         // Scroll to the element
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
         
         // Wait for element to be clickable
-        element = extendedWait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+        element = extendedWait.until(ExpectedConditions.elementToBeClickable(element));
         
         // Click the element - response time is when click completes
         element.click();
@@ -195,11 +175,7 @@ public class YubaSimSteps {
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for page to stabilize after clicking - wait for document ready state
-        extendedWait.until(driver -> {
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            String readyState = (String) js.executeScript("return document.readyState");
-            return "complete".equals(readyState);
-        });
+        extendedWait.untilDocumentComplete();
         
         // Additional wait for any dynamic content to load after click
         try {
@@ -224,20 +200,21 @@ public class YubaSimSteps {
         );
         
         // Use extended wait for button to appear (may need more time after element selection)
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(30));
         
         try {
-            // Wait for the button to be present first
-            WebElement button = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+            // Wait for the button to be present first, via its compiled selector once known
+            WebElement button = SelectorCompiler.find(driver, "click button " + xpath, xpath, Duration.ofSeconds(30));
             
             // Scroll to the button
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", button);
             
             // Wait for button to be clickable with extended timeout
-            button = extendedWait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+            button = extendedWait.until(ExpectedConditions.elementToBeClickable(button));
             
             // Click the button - response time is when click completes
             button.click();
+            BasePage.navigated();
             long responseTime = System.currentTimeMillis();
             PerformanceTracker.recordResponseTime(stepId, actionStartTime);
             
@@ -292,37 +269,32 @@ public class YubaSimSteps {
         );
         
         // Use extended wait for navigation link (may need time after button click)
-        WebDriverWait extendedWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        InstrumentedWait extendedWait = new InstrumentedWait(driver, Duration.ofSeconds(20));
         
-        // Wait for the navigation link to be present first
-        WebElement navLink = extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+        // Wait for the navigation link to be present first, via its compiled selector once known
+        WebElement navLink = SelectorCompiler.find(driver, "click navigation link " + xpath, xpath, Duration.ofSeconds(20));
         
         // Scroll to the navigation link
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", navLink);
         
         // Wait for navigation link to be clickable with extended timeout
-        navLink = extendedWait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+        navLink = extendedWait.until(ExpectedConditions.elementToBeClickable(navLink));
         
         // Click the navigation link - response time is when click completes
+        FilmstripRecorder filmstrip = FilmstripRecorder.start(driver, "SIM navigation: " + xpath);
         navLink.click();
+        BasePage.navigated();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for navigation to complete and the individual email field to be present
         try {
             // Wait for document ready state
-            extendedWait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            extendedWait.untilDocumentComplete();
             
             // Wait for the individual email field to be present and visible
             // This ensures the form has loaded before proceeding to the next step
-            extendedWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath("//*[@id='individual-email']")));
-            
-            // Additional wait to ensure the field is fully rendered and ready
-            extendedWait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//*[@id='individual-email']")));
+            extendedWait.until(ExpectedConditions.visibilityOf(dashboardPage.individualEmailField()));
             
             System.out.println("Navigation completed and individual email field is ready");
         } catch (org.openqa.selenium.TimeoutException e) {
@@ -330,6 +302,8 @@ public class YubaSimSteps {
             throw new org.openqa.selenium.TimeoutException(
                 "Individual email field not found after clicking navigation link. " +
                 "The form may not have loaded completely.", e);
+        } finally {
+            filmstrip.stop();
         }
         
         long loadEndTime = System.currentTimeMillis();
@@ -346,7 +320,7 @@ public class YubaSimSteps {
         );
         
         // Wait for the individual email field to be present and visible
-        WebElement emailField = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath("//*[@id='individual-email']")));
+        WebElement emailField = wait.until(BasePage.presenceOf(dashboardPage.individualEmailField()));
         
         // Scroll to the email field and clear any existing text
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", emailField);
@@ -379,29 +353,30 @@ public class YubaSimSteps {
         );
         
         // Wait for the form submit button to be clickable
-        WebElement submitButton = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+        WebElement submitButton = wait.until(ExpectedConditions.elementToBeClickable(
+            SelectorCompiler.find(driver, "click form submit button " + xpath, xpath, Duration.ofSeconds(10))));
         
         // Scroll to the button
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", submitButton);
         
         // Click the submit button - response time is when form submission starts
+        BrowserTiming timing = BrowserTiming.arm(driver, stepId);
         submitButton.click();
+        timing.clicked();
         long responseTime = System.currentTimeMillis();
         PerformanceTracker.recordResponseTime(stepId, actionStartTime);
         
         // Wait for form submission to process
+        long loadEndTime;
         try {
             Thread.sleep(2000);
-            wait.until(driver -> {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                String readyState = (String) js.executeScript("return document.readyState");
-                return "complete".equals(readyState);
-            });
+            loadEndTime = wait.untilDocumentComplete();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            loadEndTime = System.currentTimeMillis();
         }
         
-        long loadEndTime = System.currentTimeMillis();
+        timing.apply(loadEndTime);
         PerformanceTracker.completeStep(stepId, actionStartTime, responseTime, loadEndTime);
     }
 }
@@ -2,7 +2,10 @@ package com.example.automation.steps;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.automation.pages.BasePage;
+import com.example.automation.pages.HomePage;
 import com.example.automation.support.DriverFactory;
+import com.example.automation.support.InstrumentedWait;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -14,19 +17,18 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class YubaWebsiteSteps {
 
-    private static final String YUBA_URL = "https://yubanow.com/";
     private final WebDriver driver = DriverFactory.getDriver();
-    private final WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    private final HomePage homePage = new HomePage(driver);
+    private final InstrumentedWait wait = new InstrumentedWait(driver, Duration.ofSeconds(10));
     private final JavascriptExecutor js = (JavascriptExecutor) driver;
 
     @Given("I am on the Yuba homepage")
     public void i_am_on_the_yuba_homepage() {
-        driver.navigate().to(YUBA_URL);
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        homePage.open();
+        wait.until(ExpectedConditions.presenceOfElementLocated(BasePage.BODY));
         // Wait for page to fully load
         try {
             Thread.sleep(2000);
@@ -44,7 +46,7 @@ public class YubaWebsiteSteps {
     @Then("I should see the main heading {string}")
     public void i_should_see_the_main_heading(String expectedHeading) {
         // The heading might be split across elements, so we'll check for key parts
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         // Check for key parts of the heading
         assertThat(bodyText).containsIgnoringCase("Sounding Board");
@@ -128,7 +130,7 @@ public class YubaWebsiteSteps {
 
     @And("I should see options for {string}, {string}, and {string}")
     public void i_should_see_options_for(String option1, String option2, String option3) {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         assertThat(bodyText).containsIgnoringCase(option1);
         assertThat(bodyText).containsIgnoringCase(option2);
@@ -158,7 +160,7 @@ public class YubaWebsiteSteps {
 
     @Then("I should see multiple industry categories displayed")
     public void i_should_see_multiple_industry_categories_displayed() {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         // Check for industry-related text
         assertThat(bodyText).containsIgnoringCase("Industry");
@@ -168,7 +170,7 @@ public class YubaWebsiteSteps {
     public void i_should_see_industries_like(String industry1, String industry2, String industry3,
                                              String industry4, String industry5, String industry6,
                                              String industry7) {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         assertThat(bodyText).containsIgnoringCase(industry1);
         assertThat(bodyText).containsIgnoringCase(industry2);
@@ -194,7 +196,7 @@ public class YubaWebsiteSteps {
 
     @And("I should see multiple Venture Builder profiles")
     public void i_should_see_multiple_venture_builder_profiles() {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         // Check for Venture Builder names or related text
         assertThat(bodyText).containsIgnoringCase("Venture Builder");
@@ -252,7 +254,7 @@ public class YubaWebsiteSteps {
 
     @Then("I should see footer links for {string}, {string}")
     public void i_should_see_footer_links_for(String link1, String link2) {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText();
         assertThat(bodyText).containsIgnoringCase(link1);
         assertThat(bodyText).containsIgnoringCase(link2);
@@ -268,7 +270,7 @@ public class YubaWebsiteSteps {
 
     @And("I should see copyright information")
     public void i_should_see_copyright_information() {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText().toLowerCase();
         boolean hasCopyright = bodyText.contains("©") || 
             bodyText.contains("copyright") ||
@@ -278,7 +280,7 @@ public class YubaWebsiteSteps {
 
     @Then("I should see content about Yuba's offerings")
     public void i_should_see_content_about_yuba_s_offerings() {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText().toLowerCase();
         // Check for key terms related to offerings
         boolean hasContent = bodyText.contains("yuba") || 
@@ -288,7 +290,7 @@ public class YubaWebsiteSteps {
 
     @Then("I should see testimonials from founders")
     public void i_should_see_testimonials_from_founders() {
-        WebElement body = driver.findElement(By.tagName("body"));
+        WebElement body = homePage.body();
         String bodyText = body.getText().toLowerCase();
         // Check for testimonial indicators
         boolean hasTestimonials = bodyText.contains("founder") ||
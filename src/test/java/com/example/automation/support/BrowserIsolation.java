@@ -0,0 +1,136 @@
+package com.example.automation.support;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Gives each scenario a clean browser state without restarting the browser. In "context" mode
+ * (-Ddriver.isolation, the default) every scenario gets a fresh page in a new CDP browser context,
+ * an incognito-like profile with its own cookies, storage, IndexedDB, service workers and cache,
+ * and the previous scenario's context is disposed. "cookies" mode, also the fallback when CDP
+ * is unavailable, only deletes cookies and navigates to about:blank.
+ */
+public final class BrowserIsolation {
+
+    private static final Duration CDP_TIMEOUT = Duration.ofSeconds(10);
+
+    // Browser-level CDP connections; the driver's own DevTools session is bound to a page
+    private static final Map<WebDriver, Connection> connections = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<WebDriver, String> currentContexts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static volatile boolean contextsUnavailable = false;
+
+    private BrowserIsolation() {
+        // utility class
+    }
+
+    private static boolean useContexts() {
+        return !contextsUnavailable && "context".equalsIgnoreCase(System.getProperty("driver.isolation", "context"));
+    }
+
+    /**
+     * Reset the browser state for the next scenario and leave the driver on a blank page
+     */
+    public static void isolate(WebDriver driver) {
+        long started = System.nanoTime();
+        if (useContexts()) {
+            try {
+                switchToNewContext(driver);
+                System.out.println("🧼 Fresh browser context in " + ((System.nanoTime() - started) / 1_000_000) + "ms");
+                return;
+            } catch (Exception e) {
+                // Not a Chromium driver, or the endpoint refuses Target commands: don't retry every scenario
+                contextsUnavailable = true;
+                System.err.println("Browser contexts unavailable, falling back to cookie wiping: " + e.getMessage());
+            }
+        }
+        driver.manage().deleteAllCookies();
+        driver.navigate().to("about:blank");
+    }
+
+    private static void switchToNewContext(WebDriver driver) {
+        Connection connection = connections.computeIfAbsent(driver, d -> SeleniumCdpConnection.create(d)
+            .orElseThrow(() -> new IllegalStateException("driver has no CDP endpoint")));
+
+        Map<String, Object> context = connection.sendAndWait(null,
+            new Command<>("Target.createBrowserContext", Map.of("disposeOnDetach", false),
+                input -> input.read(Json.MAP_TYPE)), CDP_TIMEOUT);
+        String contextId = String.valueOf(context.get("browserContextId"));
+
+        Map<String, Object> target;
+        try {
+            target = connection.sendAndWait(null,
+                new Command<>("Target.createTarget", Map.of("url", "about:blank", "browserContextId", contextId),
+                    input -> input.read(Json.MAP_TYPE)), CDP_TIMEOUT);
+        } catch (RuntimeException e) {
+            dispose(connection, contextId);
+            throw e;
+        }
+
+        // Chromium window handles are target ids
+        String previousHandle = driver.getWindowHandle();
+        driver.switchTo().window(String.valueOf(target.get("targetId")));
+        try {
+            driver.manage().window().maximize();
+        } catch (Exception e) {
+            // Window managed by the OS (e.g. headless); keep the default size
+        }
+
+        // Disposing the previous context closes its page; the first scenario closes the default window instead
+        String previousContext = currentContexts.put(driver, contextId);
+        if (previousContext != null) {
+            dispose(connection, previousContext);
+        } else {
+            connection.sendAndWait(null, new Command<>("Target.closeTarget", Map.of("targetId", previousHandle),
+                input -> input.read(Json.MAP_TYPE)), CDP_TIMEOUT);
+        }
+
+        reattachDevTools(driver);
+    }
+
+    // Listeners registered on the driver's DevTools (e.g. filmstrip frames) follow it to the new page
+    private static void reattachDevTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) return;
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        if (devTools.getCdpSession() == null) return;
+        try {
+            devTools.disconnectSession();
+        } catch (Exception e) {
+            // Old page is gone already
+        }
+        devTools.createSession(driver.getWindowHandle());
+    }
+
+    private static void dispose(Connection connection, String contextId) {
+        try {
+            connection.sendAndWait(null, new Command<>("Target.disposeBrowserContext",
+                Map.of("browserContextId", contextId), input -> input.read(Json.MAP_TYPE)), CDP_TIMEOUT);
+        } catch (Exception e) {
+            System.err.println("Could not dispose browser context " + contextId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close the browser-level connection before the driver quits
+     */
+    public static void release(WebDriver driver) {
+        currentContexts.remove(driver);
+        Connection connection = connections.remove(driver);
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                // Browser is going away anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.automation.support;
+
+import com.example.automation.reporting.PerformanceTracker;
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Measures a click step on the browser clock with performance.mark/measure, so response and load times
+ * exclude WebDriver round trips and the step's own sleeps. Marks are placed in the page at the click
+ * event, at the first DOM change after it and when the load condition (by default readyState complete)
+ * first holds from then on. When the click navigated, the new document's responseStart and loadEventEnd
+ * (or domComplete) are used instead.
+ *
+ * BrowserTiming timing = BrowserTiming.arm(driver, stepId);
+ * element.click();
+ * timing.clicked();
+ * ...
+ * timing.apply(loadEndTime);
+ * PerformanceTracker.completeStep(stepId, actionStartTime, responseTime, loadEndTime);
+ */
+public final class BrowserTiming {
+
+    private static final String DOCUMENT_COMPLETE = "document.readyState === 'complete'";
+
+    // The load condition is checked on DOM changes, readystatechange and a 10ms timer after the response;
+    // it replaces CONDITION_PLACEHOLDER verbatim, so it may contain '%'
+    private static final String ARM_SCRIPT =
+        "var id = arguments[0];" +
+        "var state = window.__perfStep = {id: id, click: null, response: null, loaded: null};" +
+        "function loadedNow() { try { return !!(CONDITION_PLACEHOLDER); } catch (e) { return false; } }" +
+        "performance.mark(id + ':armed');" +
+        "document.addEventListener('click', function(e) {" +
+        "  if (state.click !== null) return;" +
+        "  state.click = e.timeStamp;" +
+        "  performance.mark(id + ':click', {startTime: e.timeStamp});" +
+        "  var deadline = Date.now() + 120000;" +
+        "  function checkLoaded() {" +
+        "    if (state.loaded !== null || state.response === null || !loadedNow()) return;" +
+        "    state.loaded = performance.now();" +
+        "    performance.mark(id + ':loaded', {startTime: state.loaded});" +
+        "    observer.disconnect();" +
+        "    document.removeEventListener('readystatechange', checkLoaded);" +
+        "  }" +
+        "  function tick() { checkLoaded(); if (state.loaded === null && Date.now() < deadline) setTimeout(tick, 10); }" +
+        "  var observer = new MutationObserver(function() {" +
+        "    if (state.response === null) {" +
+        "      state.response = performance.now();" +
+        "      performance.mark(id + ':response', {startTime: state.response});" +
+        "      setTimeout(tick, 10);" +
+        "    }" +
+        "    checkLoaded();" +
+        "  });" +
+        "  observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "  document.addEventListener('readystatechange', checkLoaded);" +
+        "}, {capture: true, once: true, passive: true});";
+
+    // Epoch millis of the click event, or null if it was not seen
+    private static final String CLICKED_SCRIPT =
+        "var s = window.__perfStep;" +
+        "if (!s || s.id !== arguments[0] || s.click === null) return null;" +
+        "return performance.timeOrigin + s.click;";
+
+    // Response and load durations in ms, measured in whichever document is current; the driver-side
+    // load end is only used when the page never saw the load condition hold
+    private static final String MEASURE_SCRIPT =
+        "var id = arguments[0], clickEpoch = arguments[1], fallbackAt = arguments[2] - performance.timeOrigin;" +
+        "var s = window.__perfStep;" +
+        "if (s && s.id === id && s.click !== null) {" +
+        "  var loadedAt = s.loaded !== null ? s.loaded : fallbackAt;" +
+        "  var responseAt = s.response !== null ? s.response : loadedAt;" +
+        "  if (s.loaded === null) performance.mark(id + ':loaded', {startTime: Math.max(loadedAt, responseAt)});" +
+        "  var response = performance.measure(id + ':response-time', {start: s.click, end: responseAt});" +
+        "  var load = performance.measure(id + ':load-time', {start: responseAt, end: Math.max(loadedAt, responseAt)});" +
+        "  return {navigated: false, inPage: s.loaded !== null, response: response.duration, load: load.duration};" +
+        "}" +
+        "if (clickEpoch === null) return null;" +
+        "var nav = performance.getEntriesByType('navigation')[0];" +
+        "if (!nav) return null;" +
+        "var navLoaded = nav.loadEventEnd > 0 ? nav.loadEventEnd : nav.domComplete > 0 ? nav.domComplete : fallbackAt;" +
+        "performance.mark(id + ':response', {startTime: nav.responseStart});" +
+        "performance.mark(id + ':loaded', {startTime: Math.max(navLoaded, nav.responseStart)});" +
+        "var load = performance.measure(id + ':load-time', id + ':response', id + ':loaded');" +
+        "return {navigated: true, inPage: navLoaded !== fallbackAt, response: performance.timeOrigin + nav.responseStart - clickEpoch," +
+        "  load: load.duration};";
+
+    private final WebDriver driver;
+    private final String stepId;
+    private Double clickEpoch;
+
+    private BrowserTiming(WebDriver driver, String stepId) {
+        this.driver = driver;
+        this.stepId = stepId;
+    }
+
+    /**
+     * Install the click listener for the step; call right before clicking
+     */
+    public static BrowserTiming arm(WebDriver driver, String stepId) {
+        return arm(driver, stepId, DOCUMENT_COMPLETE);
+    }
+
+    /**
+     * Install the click listener for the step, with the JavaScript expression that means the step has loaded
+     */
+    public static BrowserTiming arm(WebDriver driver, String stepId, String loadCondition) {
+        BrowserTiming timing = new BrowserTiming(driver, stepId);
+        try {
+            ((JavascriptExecutor) driver).executeScript(ARM_SCRIPT.replace("CONDITION_PLACEHOLDER", loadCondition), stepId);
+        } catch (WebDriverException e) {
+            System.err.println("Could not arm browser timing for " + stepId + ": " + e.getMessage());
+        }
+        return timing;
+    }
+
+    /**
+     * Read back when the click happened; call right after click() returns, before the page can unload
+     */
+    public void clicked() {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(CLICKED_SCRIPT, stepId);
+            clickEpoch = result instanceof Number ? ((Number) result).doubleValue() : null;
+        } catch (WebDriverException e) {
+            // Already navigated away; only a same-document measure is possible now
+            clickEpoch = null;
+        }
+    }
+
+    /**
+     * Have the step completed with the browser-side response/load times instead of the driver-side ones;
+     * call before PerformanceTracker.completeStep. Keeps the driver-side times when the marks are incomplete.
+     */
+    public boolean apply(long loadEndTime) {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(MEASURE_SCRIPT, stepId, clickEpoch, loadEndTime);
+            if (!(result instanceof Map)) {
+                System.out.println("Browser timing incomplete for " + stepId + ", keeping driver-side times");
+                return false;
+            }
+            Map<?, ?> measures = (Map<?, ?>) result;
+            long response = Math.max(0, Math.round(((Number) measures.get("response")).doubleValue()));
+            long load = Math.max(0, Math.round(((Number) measures.get("load")).doubleValue()));
+            PerformanceTracker.applyBrowserTiming(stepId, response, load);
+            System.out.println("Browser timing for " + stepId + ": response " + response + "ms, load " + load + "ms"
+                + (Boolean.TRUE.equals(measures.get("navigated")) ? " (navigated)" : "")
+                + (Boolean.TRUE.equals(measures.get("inPage")) ? "" : " (load end from driver)"));
+            return true;
+        } catch (WebDriverException | ClassCastException | NullPointerException e) {
+            System.err.println("Could not read browser timing for " + stepId + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,7 +3,13 @@ package com.example.automation.support;
 import java.io.File;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -11,61 +17,147 @@ import org.openqa.selenium.edge.EdgeOptions;
 /**
  * Simple thread-safe factory for creating and cleaning up WebDriver instances.
  * Uses local ChromeDriver from the drivers folder.
+ *
+ * With -Ddriver.sharedBrowser=true, threads don't get a browser each: one browser is started with a
+ * remote debugging port (-Ddriver.sharedBrowser.port, default 9333) and every thread attaches its own
+ * driver session to it, working in a tab of its own.
  */
 public final class DriverFactory {
 
     private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
 
+    private static WebDriver sharedBrowser;
+    private static final List<WebDriver> sharedSessions = new CopyOnWriteArrayList<>();
+    // Port of the driver service each launched browser runs under, to find its processes
+    private static final Map<WebDriver, Integer> servicePorts = Collections.synchronizedMap(new WeakHashMap<>());
+
     private DriverFactory() {
         // utility class
     }
 
     public static void initDriver() {
         if (DRIVER.get() == null) {
-            // Get the drivers folder path - try multiple possible locations
-            String currentDir = System.getProperty("user.dir");
-            File driverFile = null;
-            
-            // Try paths in order of likelihood
-            String[] possiblePaths = {
-                Paths.get(currentDir, "drivers", "msedgedriver.exe").toString(),
-                Paths.get(currentDir, "selenium-bdd", "drivers", "msedgedriver.exe").toString(),
-                Paths.get(currentDir, "..", "drivers", "msedgedriver.exe").toString()
-            };
-            
-            for (String path : possiblePaths) {
-                File testFile = new File(path);
-                if (testFile.exists() && testFile.isFile()) {
-                    driverFile = testFile;
-                    break;
-                }
+            if (Boolean.getBoolean("driver.sharedBrowser")) {
+                DRIVER.set(attachToSharedBrowser());
+                return;
             }
             
-            if (driverFile == null) {
-                throw new RuntimeException("EdgeDriver not found. Searched in:\n" +
-                    String.join("\n", possiblePaths) + 
-                    "\nPlease ensure msedgedriver.exe is in the drivers folder.");
+            // Use a browser that was launched ahead of demand, if any
+            WebDriver driver = DriverPool.take();
+            DRIVER.set(driver != null ? driver : launchDriver());
+        }
+    }
+
+    /**
+     * Replace this thread's browser; the replacement starts launching before the old one quits
+     */
+    public static void recycleDriver() {
+        DriverPool.prewarm();
+        try {
+            quitDriver();
+        } catch (Exception e) {
+            System.err.println("Could not quit recycled driver: " + e.getMessage());
+        }
+        initDriver();
+    }
+
+    /**
+     * Quit this thread's browser and start pre-warming its replacement; the next initDriver() picks it up
+     */
+    public static void retireDriver() {
+        DriverPool.prewarm();
+        try {
+            quitDriver();
+        } catch (Exception e) {
+            System.err.println("Could not quit retired driver: " + e.getMessage());
+        }
+    }
+
+    static WebDriver launchDriver() {
+        EdgeDriverService service = createService();
+        WebDriver driver = new EdgeDriver(service, defaultOptions());
+        servicePorts.put(driver, service.getUrl().getPort());
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        return driver;
+    }
+
+    /**
+     * Port of the driver service behind this thread's browser, or -1 when it was not launched here
+     */
+    static int getServicePort() {
+        WebDriver driver = DRIVER.get();
+        Integer port = driver == null ? null : servicePorts.get(driver);
+        return port == null ? -1 : port;
+    }
+
+    private static EdgeDriverService createService() {
+        // Get the drivers folder path - try multiple possible locations
+        String currentDir = System.getProperty("user.dir");
+        File driverFile = null;
+        
+        // Try paths in order of likelihood
+        String[] possiblePaths = {
+            Paths.get(currentDir, "drivers", "msedgedriver.exe").toString(),
+            Paths.get(currentDir, "selenium-bdd", "drivers", "msedgedriver.exe").toString(),
+            Paths.get(currentDir, "..", "drivers", "msedgedriver.exe").toString()
+        };
+        
+        for (String path : possiblePaths) {
+            File testFile = new File(path);
+            if (testFile.exists() && testFile.isFile()) {
+                driverFile = testFile;
+                break;
             }
-            
-            String driverPath = driverFile.getAbsolutePath();
-            
-            // Set system property for EdgeDriver
-            System.setProperty("webdriver.edge.driver", driverPath);
-            
-            // Create EdgeDriverService with the local driver
-            EdgeDriverService service = new EdgeDriverService.Builder()
-                .usingDriverExecutable(driverFile)
-                .build();
-            
-            EdgeOptions options = new EdgeOptions();
-            options.addArguments("--window-size=1280,800");
-            options.addArguments("--start-maximized");
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            
-            WebDriver driver = new EdgeDriver(service, options);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-            DRIVER.set(driver);
         }
+        
+        if (driverFile == null) {
+            throw new RuntimeException("EdgeDriver not found. Searched in:\n" +
+                String.join("\n", possiblePaths) + 
+                "\nPlease ensure msedgedriver.exe is in the drivers folder.");
+        }
+        
+        String driverPath = driverFile.getAbsolutePath();
+        
+        // Set system property for EdgeDriver
+        System.setProperty("webdriver.edge.driver", driverPath);
+        
+        // Create EdgeDriverService with the local driver
+        return new EdgeDriverService.Builder()
+            .usingDriverExecutable(driverFile)
+            .build();
+    }
+
+    private static EdgeOptions defaultOptions() {
+        EdgeOptions options = new EdgeOptions();
+        options.addArguments("--window-size=1280,800");
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        // Keep console messages retrievable for failure artifacts
+        options.setCapability("ms:loggingPrefs", Map.of("browser", "ALL"));
+        return options;
+    }
+
+    /**
+     * New driver session on the shared browser (started on first use), switched to a tab of its own
+     */
+    private static WebDriver attachToSharedBrowser() {
+        int port = Integer.getInteger("driver.sharedBrowser.port", 9333);
+        synchronized (DriverFactory.class) {
+            if (sharedBrowser == null) {
+                EdgeOptions options = defaultOptions();
+                options.addArguments("--remote-debugging-port=" + port);
+                sharedBrowser = new EdgeDriver(createService(), options);
+            }
+        }
+        
+        EdgeOptions options = new EdgeOptions();
+        options.setExperimentalOption("debuggerAddress", "127.0.0.1:" + port);
+        options.setCapability("ms:loggingPrefs", Map.of("browser", "ALL"));
+        WebDriver driver = new EdgeDriver(createService(), options);
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        sharedSessions.add(driver);
+        return driver;
     }
 
     public static WebDriver getDriver() {
@@ -74,9 +166,51 @@ public final class DriverFactory {
 
     public static void quitDriver() {
         WebDriver driver = DRIVER.get();
-        if (driver != null) {
-            driver.quit();
+        if (driver != null && sharedSessions.remove(driver)) {
             DRIVER.remove();
+            closeSharedSession(driver);
+        } else if (driver != null) {
+            BrowserIsolation.release(driver);
+            try {
+                driver.quit();
+            } finally {
+                DRIVER.remove();
+            }
+        }
+    }
+
+    /**
+     * Close every tab session attached to the shared browser, from any thread, then the browser itself
+     */
+    public static void quitSharedBrowser() {
+        for (WebDriver driver : sharedSessions) {
+            closeSharedSession(driver);
+        }
+        sharedSessions.clear();
+        DRIVER.remove();
+        synchronized (DriverFactory.class) {
+            if (sharedBrowser != null) {
+                try {
+                    sharedBrowser.quit();
+                } finally {
+                    sharedBrowser = null;
+                }
+            }
+        }
+    }
+
+    // Attached sessions leave the browser running on quit, so close their tab first
+    private static void closeSharedSession(WebDriver driver) {
+        BrowserIsolation.release(driver);
+        try {
+            driver.close();
+        } catch (Exception e) {
+            // Tab already gone
+        }
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Could not end shared browser session: " + e.getMessage());
         }
     }
 }
@@ -0,0 +1,162 @@
+package com.example.automation.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Launches browsers ahead of demand on a background thread, so browser start-up overlaps with
+ * Cucumber's glue scanning and feature parsing, or with quitting a recycled browser, instead of
+ * sitting on the critical path. DriverFactory.initDriver() takes a warm browser when one is pending.
+ * A warm browser still not up after -Ddriver.prewarm.timeoutSeconds (default 60) is abandoned and
+ * the caller launches its own. Disabled with -Ddriver.prewarm=false and in shared-browser mode.
+ */
+public final class DriverPool {
+
+    private static final ExecutorService launcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final long TAKE_TIMEOUT_SECONDS = Long.getLong("driver.prewarm.timeoutSeconds", 60);
+
+    private static final Deque<WarmLaunch> warm = new ArrayDeque<>();
+    private static final AtomicBoolean suiteWarmed = new AtomicBoolean();
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty("driver.prewarm"));
+
+    static {
+        // A warm browser nobody took must not outlive the JVM
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::discardWarm, "driver-prewarm-cleanup"));
+    }
+
+    /**
+     * One background launch; a browser that comes up after its launch was abandoned is quit right away
+     */
+    private static final class WarmLaunch implements Callable<WebDriver> {
+        Future<WebDriver> future;
+        private WebDriver launched;
+        private boolean abandoned;
+
+        @Override
+        public WebDriver call() {
+            WebDriver driver = DriverFactory.launchDriver();
+            synchronized (this) {
+                if (!abandoned) {
+                    launched = driver;
+                    return driver;
+                }
+            }
+            driver.quit();
+            return null;
+        }
+
+        /**
+         * Give up on the launch; returns the browser if it finished in the meantime
+         */
+        WebDriver abandon() {
+            synchronized (this) {
+                abandoned = true;
+                if (launched != null) return launched;
+            }
+            future.cancel(true);
+            return null;
+        }
+    }
+
+    private DriverPool() {
+        // utility class
+    }
+
+    /**
+     * Turn pre-warming off for JVMs that never drive a browser themselves (e.g. a shard coordinator)
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+        if (!enable) discardWarm();
+    }
+
+    private static boolean isEnabled() {
+        return enabled && !Boolean.getBoolean("driver.sharedBrowser");
+    }
+
+    /**
+     * Start the suite's first browser; only the first call per JVM does anything
+     */
+    public static void prewarmForSuite() {
+        if (suiteWarmed.compareAndSet(false, true)) {
+            prewarm();
+        }
+    }
+
+    /**
+     * Start launching a browser in the background unless one is already warm or on its way
+     */
+    public static synchronized void prewarm() {
+        if (!isEnabled() || !warm.isEmpty()) return;
+        WarmLaunch launch = new WarmLaunch();
+        launch.future = launcher.submit(launch);
+        warm.add(launch);
+        System.out.println("🔥 Pre-warming a browser in the background");
+    }
+
+    /**
+     * A warm browser, waiting up to the take timeout for its launch to finish; null when none was
+     * started, it failed or it took too long
+     */
+    static WebDriver take() {
+        WarmLaunch pending;
+        synchronized (DriverPool.class) {
+            pending = warm.poll();
+        }
+        if (pending == null) return null;
+
+        long started = System.currentTimeMillis();
+        try {
+            WebDriver driver = pending.future.get(TAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            System.out.println("🔥 Took pre-warmed browser (waited " + (System.currentTimeMillis() - started) + "ms)");
+            return driver;
+        } catch (TimeoutException e) {
+            WebDriver late = pending.abandon();
+            if (late == null) {
+                System.err.println("Pre-warmed browser not up after " + TAKE_TIMEOUT_SECONDS + "s, launching one directly");
+            }
+            return late;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // A browser that came up meanwhile is handed over like a late one, not leaked
+            return pending.abandon();
+        } catch (ExecutionException e) {
+            System.err.println("Pre-warmed browser failed to start: " + e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private static void discardWarm() {
+        WarmLaunch pending;
+        while (true) {
+            synchronized (DriverPool.class) {
+                pending = warm.poll();
+            }
+            if (pending == null) return;
+            try {
+                pending.future.get(30, TimeUnit.SECONDS).quit();
+            } catch (TimeoutException | InterruptedException e) {
+                if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+                // Still launching: it quits itself once up; one that came up meanwhile is quit here
+                WebDriver late = pending.abandon();
+                if (late != null) late.quit();
+            } catch (Exception e) {
+                // Never started, nothing to quit
+            }
+        }
+    }
+}
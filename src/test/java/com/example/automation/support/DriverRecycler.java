@@ -0,0 +1,115 @@
+package com.example.automation.support;
+
+import com.example.automation.reporting.ProcessMemoryCollector;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Samples the resident memory of this thread's driver service and the browser processes under it
+ * (read from /proc on Linux) after each scenario, and retires the browser once it has run
+ * -Ddriver.recycle.scenarios scenarios or grown past -Ddriver.recycle.rssMb. The replacement is
+ * pre-warmed while the old browser quits. RSS counts pages shared between browser processes once
+ * per process, so treat it as an upper bound. Off in shared-browser mode, where tabs share one process tree.
+ */
+public final class DriverRecycler {
+
+    private static final int MAX_SCENARIOS = Integer.getInteger("driver.recycle.scenarios", 0);
+    private static final long MAX_RSS_BYTES = Long.getLong("driver.recycle.rssMb", 0) * 1048576;
+    private static final Path PROC = Paths.get("/proc");
+
+    // Scenarios run by this thread's current browser
+    private static final ThreadLocal<int[]> scenariosOnDriver = ThreadLocal.withInitial(() -> new int[1]);
+
+    private DriverRecycler() {
+        // utility class
+    }
+
+    /**
+     * Sample process memory after a scenario and recycle the browser if a limit is reached
+     */
+    public static void afterScenario(String scenarioName) {
+        if (DriverFactory.getDriver() == null || Boolean.getBoolean("driver.sharedBrowser")) return;
+        int scenarios = ++scenariosOnDriver.get()[0];
+
+        long[] rss = sampleRss();
+        ProcessMemoryCollector.Sample sample = null;
+        if (rss[0] >= 0) {
+            sample = new ProcessMemoryCollector.Sample(scenarioName, scenarios, rss[0], (int) rss[1]);
+            ProcessMemoryCollector.recordSample(sample);
+        }
+
+        String reason = null;
+        if (MAX_SCENARIOS > 0 && scenarios >= MAX_SCENARIOS) {
+            reason = scenarios + " scenarios on one browser";
+        } else if (MAX_RSS_BYTES > 0 && rss[0] > MAX_RSS_BYTES) {
+            reason = String.format("RSS %.0f MB over the %d MB limit", rss[0] / 1048576.0, MAX_RSS_BYTES / 1048576);
+        }
+        if (reason == null) return;
+
+        if (sample != null) sample.recycledAfter = true;
+        ProcessMemoryCollector.recordRecycle(new ProcessMemoryCollector.RecycleEvent(scenarioName, reason, Math.max(0, rss[0])));
+        System.out.println("♻️ Recycling browser after '" + scenarioName + "': " + reason);
+        DriverFactory.retireDriver();
+        scenariosOnDriver.get()[0] = 0;
+    }
+
+    /**
+     * Summed RSS in bytes of this thread's driver service and its descendants, and the number of processes
+     * it covers; -1 bytes when /proc is not available or the service process cannot be found
+     */
+    static long[] sampleRss() {
+        Optional<ProcessHandle> service = Files.isDirectory(PROC)
+            ? findServiceProcess(DriverFactory.getServicePort()) : Optional.empty();
+        if (service.isEmpty()) return new long[] {-1, 0};
+
+        // Other threads' and pre-warmed browsers run under their own driver services
+        long total = Math.max(0, readRss(service.get().pid()));
+        int processes = 1;
+        for (Iterator<ProcessHandle> it = service.get().descendants().iterator(); it.hasNext(); ) {
+            long rss = readRss(it.next().pid());
+            if (rss >= 0) {
+                total += rss;
+                processes++;
+            }
+        }
+        return new long[] {total, processes};
+    }
+
+    /**
+     * The driver service child process listening on the port (started with --port=N)
+     */
+    private static Optional<ProcessHandle> findServiceProcess(int port) {
+        if (port <= 0) return Optional.empty();
+        String portArgument = "--port=" + port;
+        return ProcessHandle.current().children()
+            .filter(process -> readCommandLine(process.pid()).contains(portArgument))
+            .findFirst();
+    }
+
+    private static String readCommandLine(long pid) {
+        try {
+            // Arguments are NUL-separated
+            return new String(Files.readAllBytes(PROC.resolve(String.valueOf(pid)).resolve("cmdline"))).replace('\0', ' ');
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static long readRss(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(String.valueOf(pid)).resolve("status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    // e.g. "VmRSS:	  123456 kB"
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited while sampling
+        }
+        return -1;
+    }
+}
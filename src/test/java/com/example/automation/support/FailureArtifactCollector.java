@@ -0,0 +1,159 @@
+package com.example.automation.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+/**
+ * Captures a screenshot, DOM snapshot, console log and the last network entries when a scenario fails.
+ * Only the reads from the browser happen on the test thread; decoding, compression and disk writes run
+ * on a single background writer with a bounded queue, and captures are dropped rather than queued
+ * without limit. Artifacts land in target/custom-reports/failures/.
+ */
+public final class FailureArtifactCollector {
+
+    private static final Path REPORT_DIR = Paths.get("target/custom-reports");
+    private static final int NETWORK_ENTRIES = Integer.getInteger("perf.failure.networkEntries", 50);
+
+    private static final String PAGE_SCRIPT =
+        "return {url: location.href, title: document.title, dom: document.documentElement.outerHTML," +
+        "  network: performance.getEntriesByType('resource').slice(-arguments[0]).map(function(r) {" +
+        "    return {name: r.name, initiatorType: r.initiatorType, startTime: Math.round(r.startTime)," +
+        "            duration: Math.round(r.duration), transferSize: r.transferSize || 0," +
+        "            responseStatus: r.responseStatus || 0};" +
+        "  })};";
+
+    private static final AtomicInteger dropped = new AtomicInteger();
+    private static final AtomicInteger pending = new AtomicInteger();
+
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(8),
+        runnable -> {
+            Thread thread = new Thread(runnable, "failure-artifact-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private FailureArtifactCollector() {
+        // utility class
+    }
+
+    /**
+     * Grab the failure state from the browser and queue it for writing. Returns the artifact directory
+     * relative to target/custom-reports, or null if nothing could be captured. Never throws.
+     */
+    public static String capture(WebDriver driver, String scenarioName) {
+        if (driver == null) return null;
+        long started = System.nanoTime();
+
+        String screenshot = null;
+        Map<?, ?> page = null;
+        List<LogEntry> console = new ArrayList<>();
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (Exception e) {
+            System.err.println("Could not capture failure screenshot: " + e.getMessage());
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(PAGE_SCRIPT, NETWORK_ENTRIES);
+            if (result instanceof Map) page = (Map<?, ?>) result;
+        } catch (Exception e) {
+            System.err.println("Could not capture failure DOM snapshot: " + e.getMessage());
+        }
+        try {
+            console = driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (Exception e) {
+            // Browser logging not enabled for this driver
+        }
+        if (screenshot == null && page == null) return null;
+
+        String slug = scenarioName.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase();
+        String relativePath = "failures/" + slug + "-" + System.currentTimeMillis();
+        Path directory = REPORT_DIR.resolve(relativePath);
+
+        String capturedScreenshot = screenshot;
+        Map<?, ?> capturedPage = page;
+        List<LogEntry> capturedConsole = console;
+        pending.incrementAndGet();
+        try {
+            writer.execute(() -> {
+                try {
+                    write(directory, capturedScreenshot, capturedPage, capturedConsole);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            System.err.println("Failure artifact queue full, dropped capture #" + dropped.incrementAndGet());
+            return null;
+        }
+
+        System.out.println("📎 Failure artifacts for '" + scenarioName + "' captured in "
+            + ((System.nanoTime() - started) / 1_000_000) + "ms, writing to " + directory);
+        return relativePath;
+    }
+
+    private static void write(Path directory, String screenshot, Map<?, ?> page, List<LogEntry> console) {
+        try {
+            Files.createDirectories(directory);
+            if (screenshot != null) {
+                Files.write(directory.resolve("screenshot.png"), Base64.getDecoder().decode(screenshot));
+            }
+            if (page != null) {
+                gzip(directory.resolve("dom.html.gz"), "<!-- " + page.get("url") + " -->\n" + page.get("dom"));
+                gzip(directory.resolve("network.json.gz"), new Json().toJson(page.get("network")));
+            }
+            StringBuilder log = new StringBuilder();
+            for (LogEntry entry : console) {
+                log.append(entry.getTimestamp()).append(' ').append(entry.getLevel()).append(' ')
+                    .append(entry.getMessage()).append('\n');
+            }
+            gzip(directory.resolve("console.log.gz"), log.toString());
+        } catch (IOException e) {
+            System.err.println("Could not write failure artifacts to " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static void gzip(Path file, String content) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Wait for queued artifacts to be written, e.g. before reports link to them or the JVM exits
+     */
+    public static void awaitPendingWrites(Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.automation.support;
+
+import com.example.automation.reporting.Filmstrip;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Captures a page transition as a filmstrip through CDP Page.startScreencast. Frames arrive as JPEGs,
+ * are acknowledged and written to target/custom-reports/filmstrip/ on a background thread, and
+ * analyzed into Speed Index and visually-complete time once the transition is over.
+ *
+ * Enabled with -Dperf.filmstrip=true; -Dperf.filmstrip.everyNthFrame (default 6, about 100ms at 60fps)
+ * sets the cadence. When disabled, start() and stop() are no-ops.
+ */
+public final class FilmstripRecorder {
+
+    private static final boolean ENABLED = Boolean.getBoolean("perf.filmstrip");
+    private static final int EVERY_NTH_FRAME = Integer.getInteger("perf.filmstrip.everyNthFrame", 6);
+
+    private static final Event<Map<String, Object>> SCREENCAST_FRAME =
+        new Event<>("Page.screencastFrame", input -> input.read(Json.MAP_TYPE));
+
+    // Frame writes and acks stay off the DevTools connection thread
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "filmstrip-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // One frame listener per DevTools connection, routed to whichever recorder is active on it
+    private static final Map<DevTools, FilmstripRecorder> active = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<DevTools, Boolean> listening = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String label;
+    private final DevTools devTools;
+    private final Path directory;
+    private final long startTime;
+    private final List<Filmstrip.Frame> frames = Collections.synchronizedList(new ArrayList<>());
+    private CompletableFuture<Void> pendingWrites = CompletableFuture.completedFuture(null);
+
+    private FilmstripRecorder(String label, DevTools devTools, Path directory, long startTime) {
+        this.label = label;
+        this.devTools = devTools;
+        this.directory = directory;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Start capturing; call right before the action that starts the transition
+     */
+    public static FilmstripRecorder start(WebDriver driver, String label) {
+        long startTime = System.currentTimeMillis();
+        if (!ENABLED || !(driver instanceof HasDevTools)) {
+            return new FilmstripRecorder(label, null, null, startTime);
+        }
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            // Attach to the current window, which changes when scenarios get their own browser context
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            if (listening.putIfAbsent(devTools, Boolean.TRUE) == null) {
+                devTools.addListener(SCREENCAST_FRAME, frame -> {
+                    FilmstripRecorder recorder = active.get(devTools);
+                    if (recorder != null) recorder.onFrame(frame);
+                });
+            }
+
+            String slug = label.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase();
+            Path directory = Filmstrip.REPORT_DIR.resolve("filmstrip").resolve(slug + "-" + startTime);
+            Files.createDirectories(directory);
+
+            FilmstripRecorder recorder = new FilmstripRecorder(label, devTools, directory, startTime);
+            active.put(devTools, recorder);
+            devTools.send(new Command<>("Page.startScreencast", Map.of(
+                "format", "jpeg",
+                "quality", 60,
+                "maxWidth", 640,
+                "maxHeight", 480,
+                "everyNthFrame", EVERY_NTH_FRAME)));
+            return recorder;
+        } catch (Exception e) {
+            System.err.println("Could not start filmstrip for " + label + ": " + e.getMessage());
+            return new FilmstripRecorder(label, null, null, startTime);
+        }
+    }
+
+    private void onFrame(Map<String, Object> frame) {
+        Object sessionId = frame.get("sessionId");
+        Map<?, ?> metadata = frame.get("metadata") instanceof Map ? (Map<?, ?>) frame.get("metadata") : Map.of();
+        long capturedAt = metadata.get("timestamp") instanceof Number
+            ? Math.round(((Number) metadata.get("timestamp")).doubleValue() * 1000)
+            : System.currentTimeMillis();
+        String data = (String) frame.get("data");
+
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+            try {
+                devTools.send(new Command<>("Page.screencastFrameAck", Map.of("sessionId", sessionId)));
+            } catch (Exception e) {
+                // Screencast already stopped
+            }
+            long offset = capturedAt - startTime;
+            String fileName = String.format("%06d.jpg", Math.max(0, offset));
+            try {
+                Files.write(directory.resolve(fileName), Base64.getDecoder().decode(data));
+                frames.add(new Filmstrip.Frame(offset,
+                    Filmstrip.REPORT_DIR.relativize(directory.resolve(fileName)).toString().replace('\\', '/')));
+            } catch (IOException e) {
+                System.err.println("Could not write filmstrip frame: " + e.getMessage());
+            }
+        }, writer);
+        synchronized (this) {
+            pendingWrites = CompletableFuture.allOf(pendingWrites, write);
+        }
+    }
+
+    /**
+     * Stop capturing, analyze the frames and add the filmstrip to the reports; null when disabled or failed
+     */
+    public Filmstrip stop() {
+        if (devTools == null) return null;
+
+        try {
+            devTools.send(new Command<>("Page.stopScreencast", Map.of()));
+        } catch (Exception e) {
+            System.err.println("Could not stop screencast: " + e.getMessage());
+        }
+        active.remove(devTools, this);
+
+        try {
+            CompletableFuture<Void> writes;
+            synchronized (this) {
+                writes = pendingWrites;
+            }
+            writes.get(10, TimeUnit.SECONDS);
+
+            List<Filmstrip.Frame> ordered;
+            synchronized (frames) {
+                ordered = new ArrayList<>(frames);
+            }
+            ordered.sort((a, b) -> Long.compare(a.offset, b.offset));
+
+            Filmstrip filmstrip = new Filmstrip(label, startTime, ordered);
+            filmstrip.analyze();
+            Filmstrip.record(filmstrip);
+            System.out.println("🎞️ " + label + ": " + ordered.size() + " frames, Speed Index "
+                + filmstrip.speedIndex + "ms, visually complete at " + filmstrip.visuallyComplete + "ms");
+            return filmstrip;
+        } catch (Exception e) {
+            System.err.println("Could not build filmstrip for " + label + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
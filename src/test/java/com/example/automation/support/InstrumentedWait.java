@@ -0,0 +1,200 @@
+package com.example.automation.support;
+
+import com.example.automation.reporting.FlightRecorderSupport;
+import com.example.automation.reporting.PerformanceTracker;
+import com.example.automation.reporting.WaitEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * WebDriverWait with adaptive polling: the first polls are a few milliseconds apart and the interval
+ * doubles up to a cap, instead of Selenium's fixed 500ms. Document-level conditions can also be resolved
+ * in the browser, so the returned timestamp is when the condition became true rather than the next poll.
+ * Emits a JFR WaitEvent per wait (poll count, outcome, timeout) when -Dperf.jfr=true.
+ *
+ * Tunable with -Dwait.poll.initial.ms (default 25) and -Dwait.poll.max.ms (default 500).
+ */
+public class InstrumentedWait extends WebDriverWait {
+
+    private static final long INITIAL_POLL_MS = Long.getLong("wait.poll.initial.ms", 25);
+    private static final long MAX_POLL_MS = Long.getLong("wait.poll.max.ms", 500);
+
+    // Resolves with the epoch time (browser clock) at which the predicate first held, or -1 on timeout.
+    // Re-checks on DOM mutations and readystatechange, plus a short timer for non-DOM state.
+    // CONDITION_PLACEHOLDER is replaced verbatim, so expressions may contain '%'.
+    private static final String BROWSER_WAIT_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var deadline = Date.now() + arguments[0];" +
+        "var finished = false, observer = null;" +
+        "function now() { return performance.timeOrigin + performance.now(); }" +
+        "function check() { try { return !!(CONDITION_PLACEHOLDER); } catch (e) { return false; } }" +
+        "function finish(value) {" +
+        "  if (finished) return;" +
+        "  finished = true;" +
+        "  if (observer) observer.disconnect();" +
+        "  document.removeEventListener('readystatechange', probe);" +
+        "  done(value);" +
+        "}" +
+        "function probe() { if (check()) finish(now()); else if (Date.now() > deadline) finish(-1); }" +
+        "function tick() { probe(); if (!finished) setTimeout(tick, 10); }" +
+        "if (check()) { done(now()); return; }" +
+        "observer = new MutationObserver(probe);" +
+        "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "document.addEventListener('readystatechange', probe);" +
+        "setTimeout(tick, 10);";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final BackoffSleeper sleeper;
+
+    public InstrumentedWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, new BackoffSleeper());
+    }
+
+    private InstrumentedWait(WebDriver driver, Duration timeout, BackoffSleeper sleeper) {
+        super(driver, timeout, Duration.ofMillis(INITIAL_POLL_MS), Clock.systemDefaultZone(), sleeper);
+        this.driver = driver;
+        this.timeout = timeout;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Sleeps for an exponentially growing interval; reset at the start of every until() call
+     */
+    private static class BackoffSleeper implements Sleeper {
+        private long nextMillis = INITIAL_POLL_MS;
+
+        void reset() {
+            nextMillis = INITIAL_POLL_MS;
+        }
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            Thread.sleep(nextMillis);
+            nextMillis = Math.min(nextMillis * 2, MAX_POLL_MS);
+        }
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        sleeper.reset();
+        if (!FlightRecorderSupport.isEnabled()) {
+            return super.until(isTrue);
+        }
+
+        WaitEvent event = new WaitEvent();
+        int[] polls = {0};
+        event.begin();
+        String outcome = "ERROR";
+        try {
+            V value = super.until(new Function<WebDriver, V>() {
+                @Override
+                public V apply(WebDriver driver) {
+                    polls[0]++;
+                    return isTrue.apply(driver);
+                }
+
+                @Override
+                public String toString() {
+                    // FluentWait puts this in its timeout message
+                    return String.valueOf(isTrue);
+                }
+            });
+            outcome = "SATISFIED";
+            return value;
+        } catch (TimeoutException e) {
+            outcome = "TIMEOUT";
+            throw e;
+        } finally {
+            commit(event, String.valueOf(isTrue), polls[0], outcome);
+        }
+    }
+
+    /**
+     * Wait for document.readyState to be complete; returns the epoch millis at which it was
+     */
+    public long untilDocumentComplete() {
+        return untilInBrowser("document.readyState === 'complete'");
+    }
+
+    /**
+     * Wait in the browser until the JavaScript expression is truthy and return the epoch millis at which
+     * it became so. When the page navigates away mid-wait, the new document is checked with what is left
+     * of the timeout.
+     */
+    public long untilInBrowser(String jsExpression) {
+        WaitEvent event = FlightRecorderSupport.isEnabled() ? new WaitEvent() : null;
+        if (event != null) event.begin();
+        String outcome = "ERROR";
+        int documents = 0;
+
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        Duration scriptTimeout = driver.manage().timeouts().getScriptTimeout();
+        try {
+            while (true) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    outcome = "TIMEOUT";
+                    throw browserTimeout(jsExpression, null);
+                }
+                documents++;
+                driver.manage().timeouts().scriptTimeout(Duration.ofMillis(remaining).plusSeconds(1));
+                try {
+                    Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                        BROWSER_WAIT_SCRIPT.replace("CONDITION_PLACEHOLDER", jsExpression), remaining);
+                    double observedAt = result instanceof Number ? ((Number) result).doubleValue() : -1;
+                    if (observedAt < 0) {
+                        outcome = "TIMEOUT";
+                        throw browserTimeout(jsExpression, null);
+                    }
+                    outcome = "SATISFIED";
+                    // Browser and test run on the same machine; never report an end after we saw it
+                    return Math.min((long) observedAt, System.currentTimeMillis());
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (ScriptTimeoutException e) {
+                    // The script outlived its own deadline, e.g. timers throttled in a background tab
+                    outcome = "TIMEOUT";
+                    throw browserTimeout(jsExpression, e);
+                } catch (WebDriverException e) {
+                    if (!isDocumentUnloaded(e)) throw e;
+                    // Navigation replaced the document; check the new one
+                }
+            }
+        } finally {
+            driver.manage().timeouts().scriptTimeout(scriptTimeout);
+            if (event != null) commit(event, "browser: " + jsExpression, documents, outcome);
+        }
+    }
+
+    private TimeoutException browserTimeout(String jsExpression, Throwable cause) {
+        return new TimeoutException("Expected condition failed: waiting for " + jsExpression
+            + " in the browser (tried for " + timeout.toMillis() + "ms)", cause);
+    }
+
+    private static boolean isDocumentUnloaded(WebDriverException e) {
+        // Chromium: "document unloaded while waiting for result"; Firefox: "Document was unloaded"
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+        return message.contains("document") && message.contains("unloaded");
+    }
+
+    private void commit(WaitEvent event, String condition, int pollCount, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.stepName = PerformanceTracker.getCurrentStepName();
+            event.condition = condition;
+            event.timeout = timeout.toMillis();
+            event.pollCount = pollCount;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.automation.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Adds delay, jitter or errors to matching requests of the page through CDP Fetch interception, to
+ * see how sensitive the frontend steps are to each backend dependency. Rules come from
+ * -Dlatency.rules, separated by ';', each a URL wildcard pattern and its settings after '|':
+ *
+ * -Dlatency.rules="*workspace*|delay=800,jitter=200;*credit*|error=503,rate=0.2"
+ *
+ * delay/jitter are milliseconds (jitter adds 0..jitter at random), error is an HTTP status to answer
+ * with or "abort" to fail the request, rate is the share of matching requests that get the error
+ * (default 1). Only requests matching a rule are paused; everything else never leaves the network stack.
+ */
+public final class LatencyInjector {
+
+    private static final Event<Map<String, Object>> REQUEST_PAUSED =
+        new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+
+    // Delayed continues stay off the DevTools connection thread
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "latency-injector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<DevTools, Boolean> listening = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<DevTools, Boolean> intercepting = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, AtomicInteger> interceptedCounts = new ConcurrentHashMap<>();
+
+    // Set by the sweep runner between runs; takes precedence over -Dlatency.rules
+    private static volatile String override;
+    private static volatile List<Rule> rules = List.of();
+
+    /**
+     * What to do with requests whose URL matches a pattern
+     */
+    public static class Rule {
+        public final String pattern;
+        public final long delayMs;
+        public final long jitterMs;
+        public final String error; // HTTP status or "abort"; null for none
+        public final double errorRate;
+        private final Pattern regex;
+
+        public Rule(String pattern, long delayMs, long jitterMs, String error, double errorRate) {
+            this.pattern = pattern;
+            this.delayMs = delayMs;
+            this.jitterMs = jitterMs;
+            this.error = error;
+            this.errorRate = errorRate;
+            this.regex = Pattern.compile(Pattern.quote(pattern).replace("*", "\\E.*\\Q").replace("?", "\\E.\\Q"));
+        }
+
+        boolean matches(String url) {
+            return regex.matcher(url).matches();
+        }
+    }
+
+    private LatencyInjector() {
+        // utility class
+    }
+
+    /**
+     * Use these rules (same syntax as -Dlatency.rules) for the following scenarios; null restores the property
+     */
+    public static void setRules(String spec) {
+        override = spec;
+    }
+
+    /**
+     * Requests intercepted for a rule pattern since the last reset
+     */
+    public static int getInterceptedCount(String pattern) {
+        AtomicInteger count = interceptedCounts.get(pattern);
+        return count == null ? 0 : count.get();
+    }
+
+    public static void resetCounts() {
+        interceptedCounts.clear();
+    }
+
+    /**
+     * Start (or stop) intercepting on the driver's current page; call after each scenario's browser isolation
+     */
+    public static void apply(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) return;
+        String spec = override != null ? override : System.getProperty("latency.rules", "");
+        List<Rule> parsed = parse(spec);
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            if (parsed.isEmpty()) {
+                if (intercepting.remove(devTools) != null) {
+                    devTools.send(new Command<>("Fetch.disable", Map.of()));
+                }
+                return;
+            }
+
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            if (listening.putIfAbsent(devTools, Boolean.TRUE) == null) {
+                devTools.addListener(REQUEST_PAUSED, paused -> onRequestPaused(devTools, paused));
+            }
+            rules = parsed;
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (Rule rule : parsed) {
+                patterns.add(Map.of("urlPattern", rule.pattern, "requestStage", "Request"));
+            }
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+            intercepting.put(devTools, Boolean.TRUE);
+            System.out.println("🐢 Injecting latency: " + spec);
+        } catch (Exception e) {
+            System.err.println("Could not set up latency injection: " + e.getMessage());
+        }
+    }
+
+    private static void onRequestPaused(DevTools devTools, Map<String, Object> paused) {
+        String requestId = String.valueOf(paused.get("requestId"));
+        Map<?, ?> request = paused.get("request") instanceof Map ? (Map<?, ?>) paused.get("request") : Map.of();
+        String url = String.valueOf(request.get("url"));
+
+        Rule rule = null;
+        for (Rule candidate : rules) {
+            if (candidate.matches(url)) {
+                rule = candidate;
+                break;
+            }
+        }
+        if (rule == null) {
+            scheduler.execute(() -> send(devTools, "Fetch.continueRequest", Map.of("requestId", requestId)));
+            return;
+        }
+
+        interceptedCounts.computeIfAbsent(rule.pattern, k -> new AtomicInteger()).incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = rule.delayMs + (rule.jitterMs > 0 ? random.nextLong(rule.jitterMs + 1) : 0);
+        boolean fail = rule.error != null && random.nextDouble() < rule.errorRate;
+        String error = rule.error;
+
+        scheduler.schedule(() -> {
+            if (!fail) {
+                send(devTools, "Fetch.continueRequest", Map.of("requestId", requestId));
+            } else if ("abort".equalsIgnoreCase(error)) {
+                send(devTools, "Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "ConnectionFailed"));
+            } else {
+                send(devTools, "Fetch.fulfillRequest", Map.of(
+                    "requestId", requestId,
+                    "responseCode", Integer.parseInt(error),
+                    "responseHeaders", List.of(Map.of("name", "Content-Type", "value", "application/json")),
+                    "body", Base64.getEncoder().encodeToString(
+                        "{\"error\":\"injected by LatencyInjector\"}".getBytes(StandardCharsets.UTF_8))));
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static void send(DevTools devTools, String method, Map<String, Object> params) {
+        try {
+            devTools.send(new Command<>(method, params));
+        } catch (Exception e) {
+            // Page navigated away or the request was cancelled meanwhile
+        }
+    }
+
+    /**
+     * Parse a rule spec; malformed rules are reported and skipped
+     */
+    static List<Rule> parse(String spec) {
+        List<Rule> parsed = new ArrayList<>();
+        if (spec == null || spec.isBlank()) return parsed;
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) continue;
+            int bar = entry.lastIndexOf('|');
+            if (bar <= 0) {
+                System.err.println("Ignoring latency rule without settings: " + entry);
+                continue;
+            }
+            long delay = 0;
+            long jitter = 0;
+            String error = null;
+            double rate = 1.0;
+            try {
+                for (String setting : entry.substring(bar + 1).split(",")) {
+                    String[] pair = setting.trim().split("=", 2);
+                    if (pair.length < 2) continue;
+                    String value = pair[1].trim();
+                    switch (pair[0].trim()) {
+                        case "delay":
+                            delay = Long.parseLong(value);
+                            break;
+                        case "jitter":
+                            jitter = Long.parseLong(value);
+                            break;
+                        case "error":
+                            error = value;
+                            break;
+                        case "rate":
+                            rate = Double.parseDouble(value);
+                            break;
+                        default:
+                            System.err.println("Unknown latency setting '" + pair[0].trim() + "' in " + entry);
+                    }
+                }
+                if (error != null && !"abort".equalsIgnoreCase(error)) Integer.parseInt(error);
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring malformed latency rule: " + entry);
+                continue;
+            }
+            parsed.add(new Rule(entry.substring(0, bar).trim(), delay, jitter, error, rate));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.automation.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Finds a logical element (e.g. "acm.allocate-credits") through several locator strategies at once.
+ * Every poll round probes each strategy with the implicit wait switched off, so a stale strategy
+ * costs one round trip instead of a full wait timeout. The strategy that matched is remembered per
+ * logical element in .locator-cache/ and probed first in later rounds and later runs.
+ */
+public final class LocatorRegistry {
+
+    private static final Path CACHE_FILE = Paths.get(".locator-cache", "locators.properties");
+    private static final long POLL_INTERVAL_MS = 250;
+
+    private static final Properties winners = load();
+
+    private LocatorRegistry() {
+        // utility class
+    }
+
+    /**
+     * One way of locating an element; returns null when it does not match (yet)
+     */
+    public static final class Strategy {
+        final String name;
+        final Function<WebDriver, WebElement> probe;
+
+        private Strategy(String name, Function<WebDriver, WebElement> probe) {
+            this.name = name;
+            this.probe = probe;
+        }
+
+        public static Strategy css(String name, String css) {
+            return new Strategy(name, driver -> first(driver.findElements(By.cssSelector(css))));
+        }
+
+        public static Strategy xpath(String name, String xpath) {
+            return new Strategy(name, driver -> first(driver.findElements(By.xpath(xpath))));
+        }
+
+        /**
+         * XPath evaluated by the browser itself; tolerates characters Selenium's By.xpath rejects
+         */
+        public static Strategy jsXpath(String name, String xpath) {
+            return new Strategy(name, driver -> {
+                Object result = ((JavascriptExecutor) driver).executeScript(
+                    "return document.evaluate(arguments[0], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+                    xpath);
+                return result instanceof WebElement ? (WebElement) result : null;
+            });
+        }
+
+        /**
+         * First element matching the CSS selector whose visible text contains the given text
+         */
+        public static Strategy cssWithText(String name, String css, String text) {
+            return new Strategy(name, driver -> {
+                for (WebElement candidate : driver.findElements(By.cssSelector(css))) {
+                    if (candidate.getText().contains(text)) return candidate;
+                }
+                return null;
+            });
+        }
+
+        private static WebElement first(List<WebElement> elements) {
+            return elements.isEmpty() ? null : elements.get(0);
+        }
+    }
+
+    /**
+     * Race the strategies until one matches or the budget runs out
+     */
+    public static WebElement find(WebDriver driver, String logicalName, Duration budget, Strategy... strategies) {
+        return race(driver, logicalName, budget, strategies).element;
+    }
+
+    /**
+     * Element found by a race together with the name of the strategy that found it
+     */
+    static final class Match {
+        final WebElement element;
+        final String strategyName;
+
+        Match(WebElement element, String strategyName) {
+            this.element = element;
+            this.strategyName = strategyName;
+        }
+    }
+
+    static Match race(WebDriver driver, String logicalName, Duration budget, Strategy... strategies) {
+        List<Strategy> ordered = orderByWinner(logicalName, strategies);
+        List<String> errors = new ArrayList<>();
+
+        Duration implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        long started = System.currentTimeMillis();
+        long deadline = started + budget.toMillis();
+        int rounds = 0;
+        try {
+            while (true) {
+                rounds++;
+                for (Strategy strategy : ordered) {
+                    WebElement element;
+                    try {
+                        element = strategy.probe.apply(driver);
+                    } catch (RuntimeException e) {
+                        // Invalid selector for this page state, stale node, ...; keep racing the others
+                        element = null;
+                        if (errors.size() < 10) errors.add(strategy.name + ": " + e.getClass().getSimpleName());
+                    }
+                    if (element != null) {
+                        remember(logicalName, strategy.name);
+                        System.out.println("✅ Located " + logicalName + " via " + strategy.name + " in "
+                            + (System.currentTimeMillis() - started) + "ms (round " + rounds + ")");
+                        return new Match(element, strategy.name);
+                    }
+                }
+
+                if (System.currentTimeMillis() + POLL_INTERVAL_MS > deadline) break;
+                try {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+
+        List<String> names = new ArrayList<>();
+        for (Strategy strategy : ordered) names.add(strategy.name);
+        throw new TimeoutException("Could not locate " + logicalName + " within " + budget.toMillis() + "ms. Tried "
+            + names + " over " + rounds + " rounds" + (errors.isEmpty() ? "" : ", errors: " + errors));
+    }
+
+    private static List<Strategy> orderByWinner(String logicalName, Strategy[] strategies) {
+        List<Strategy> ordered = new ArrayList<>(List.of(strategies));
+        String winner;
+        synchronized (winners) {
+            winner = winners.getProperty(logicalName);
+        }
+        if (winner != null) {
+            for (int i = 0; i < ordered.size(); i++) {
+                if (ordered.get(i).name.equals(winner)) {
+                    ordered.add(0, ordered.remove(i));
+                    break;
+                }
+            }
+        }
+        return ordered;
+    }
+
+    static void remember(String logicalName, String strategyName) {
+        synchronized (winners) {
+            if (strategyName.equals(winners.getProperty(logicalName))) return;
+            winners.setProperty(logicalName, strategyName);
+            try {
+                Files.createDirectories(CACHE_FILE.getParent());
+                try (Writer writer = Files.newBufferedWriter(CACHE_FILE)) {
+                    winners.store(writer, "Locator strategy that last matched, per logical element");
+                }
+            } catch (IOException e) {
+                System.err.println("Could not persist locator cache: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (Reader reader = Files.newBufferedReader(CACHE_FILE)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                System.err.println("Could not read locator cache: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+}
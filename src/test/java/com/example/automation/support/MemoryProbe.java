@@ -0,0 +1,52 @@
+package com.example.automation.support;
+
+import com.example.automation.reporting.MemoryCollector;
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Reads JS heap usage, DOM node and listener counts of the current page. Uses CDP
+ * Runtime.getHeapUsage and Memory.getDOMCounters on Chromium drivers and falls back to
+ * performance.memory and a DOM element count elsewhere (listeners then stay unknown).
+ */
+public final class MemoryProbe {
+
+    private static final String PAGE_SCRIPT =
+        "var m = performance.memory;" +
+        "return {usedSize: m ? m.usedJSHeapSize : -1, totalSize: m ? m.totalJSHeapSize : -1," +
+        "        nodes: document.getElementsByTagName('*').length, jsEventListeners: -1};";
+
+    // Drivers without the Memory domain fail on every sample; say so once
+    private static volatile boolean cdpFailureLogged = false;
+
+    private MemoryProbe() {
+        // utility class
+    }
+
+    /**
+     * Sample the page; with collectGarbage, run a full GC first so growth means retained memory
+     */
+    public static MemoryCollector.MemorySample sample(WebDriver driver, boolean collectGarbage) {
+        if (driver instanceof HasCdp) {
+            try {
+                HasCdp cdp = (HasCdp) driver;
+                if (collectGarbage) {
+                    cdp.executeCdpCommand("HeapProfiler.collectGarbage", Map.of());
+                }
+                return MemoryCollector.MemorySample.fromCdp(
+                    cdp.executeCdpCommand("Runtime.getHeapUsage", Map.of()),
+                    cdp.executeCdpCommand("Memory.getDOMCounters", Map.of()));
+            } catch (Exception e) {
+                if (!cdpFailureLogged) {
+                    cdpFailureLogged = true;
+                    System.err.println("CDP memory sample failed, using page APIs (not logged again): " + e.getMessage());
+                }
+            }
+        }
+        Object counters = ((JavascriptExecutor) driver).executeScript(PAGE_SCRIPT);
+        Map<?, ?> map = counters instanceof Map ? (Map<?, ?>) counters : null;
+        return MemoryCollector.MemorySample.fromCdp(map, map);
+    }
+}
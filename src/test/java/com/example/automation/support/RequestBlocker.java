@@ -0,0 +1,112 @@
+package com.example.automation.support;
+
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Blocks third-party requests (analytics, fonts, video, chat widgets) through CDP
+ * Network.setBlockedURLs for functional scenarios that don't need them. Applies to scenarios matching
+ * -Dblock.tags (default "@navigation or @demo"); @performance scenarios always load everything.
+ * Patterns come from blocklist/third-party.txt on the classpath or the file in -Dblock.list;
+ * -Dblock.tags= (empty) turns blocking off.
+ */
+public final class RequestBlocker {
+
+    private static final String DEFAULT_TAGS = "@navigation or @demo";
+    private static final String FULL_FIDELITY_TAG = "@performance";
+    private static final String DEFAULT_LIST = "blocklist/third-party.txt";
+
+    private static List<String> patterns;
+
+    // Set by experiments that control blocking themselves; overrides the tag rules for every scenario
+    private static volatile List<String> override;
+
+    // Drivers whose current page has a blocklist set, so it can be lifted for the next scenario
+    private static final Map<WebDriver, Boolean> blocking = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private RequestBlocker() {
+        // utility class
+    }
+
+    /**
+     * Whether a scenario with these tags runs with third-party requests blocked
+     */
+    public static boolean appliesTo(Collection<String> tags) {
+        String expression = System.getProperty("block.tags", DEFAULT_TAGS);
+        if (expression.isBlank() || tags.contains(FULL_FIDELITY_TAG)) return false;
+        Expression filter = TagExpressionParser.parse(expression);
+        return filter.evaluate(new ArrayList<>(tags));
+    }
+
+    /**
+     * Block exactly these URL patterns in every scenario, @performance included (an empty list blocks
+     * nothing); null restores the tag rules
+     */
+    public static void setOverride(List<String> urlPatterns) {
+        override = urlPatterns == null ? null : List.copyOf(urlPatterns);
+    }
+
+    /**
+     * Set or lift the blocklist on the driver's current page for a scenario with the given tags
+     */
+    public static void apply(WebDriver driver, Collection<String> tags) {
+        if (!(driver instanceof HasCdp)) return;
+        List<String> forced = override;
+        boolean block = forced != null ? !forced.isEmpty() : appliesTo(tags);
+        if (!block && !blocking.containsKey(driver)) return;
+
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            List<String> urls = !block ? List.of() : forced != null ? forced : getPatterns();
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", urls));
+            if (block) {
+                blocking.put(driver, Boolean.TRUE);
+                System.out.println("🚫 Blocking " + (forced != null ? String.join(", ", urls)
+                    : urls.size() + " third-party URL patterns"));
+            } else {
+                blocking.remove(driver);
+            }
+        } catch (Exception e) {
+            System.err.println("Could not update request blocklist: " + e.getMessage());
+        }
+    }
+
+    static synchronized List<String> getPatterns() {
+        if (patterns == null) {
+            patterns = new ArrayList<>();
+            String file = System.getProperty("block.list");
+            try (InputStream in = file != null ? Files.newInputStream(Paths.get(file))
+                    : RequestBlocker.class.getClassLoader().getResourceAsStream(DEFAULT_LIST)) {
+                if (in == null) {
+                    System.err.println("Request blocklist " + DEFAULT_LIST + " not found on the classpath");
+                    return patterns;
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) patterns.add(line);
+                }
+            } catch (IOException e) {
+                System.err.println("Could not read request blocklist: " + e.getMessage());
+            }
+        }
+        return patterns;
+    }
+}
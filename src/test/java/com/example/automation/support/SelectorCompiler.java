@@ -0,0 +1,181 @@
+package com.example.automation.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Replaces brittle absolute XPaths and generated Radix ids from the feature files with selectors built
+ * from stable attributes. The first time a step's XPath matches, the matched element is inspected in
+ * the browser and the shortest unique selector over data-slot, role, aria-*, name, href and non-generated
+ * ids (or, failing that, its text) is cached per step in .locator-cache/selectors.properties.
+ * Later lookups race the compiled selector against the original XPath via LocatorRegistry.
+ */
+public final class SelectorCompiler {
+
+    private static final Path CACHE_FILE = Paths.get(".locator-cache", "selectors.properties");
+    private static final String COMPILED = "compiled";
+    private static final String FEATURE_XPATH = "feature-xpath";
+
+    private static final Properties compiled = load();
+
+    // Returns "css:<selector>", "xpath:<expression>" or null for arguments[0]
+    private static final String COMPILE_SCRIPT =
+        "var el = arguments[0];" +
+        "function generated(v) { return !v || /radix|[«»]|:r[0-9a-z]+:|^\\d|[0-9a-f]{8,}/i.test(v); }" +
+        "function q(v) { return '\"' + v.replace(/\\\\/g, '\\\\\\\\').replace(/\"/g, '\\\\\"') + '\"'; }" +
+        "function uniqueCss(sel) {" +
+        "  try { var all = document.querySelectorAll(sel); return all.length === 1 && all[0] === el; }" +
+        "  catch (e) { return false; }" +
+        "}" +
+        "function attrParts(node) {" +
+        "  var parts = [];" +
+        "  ['data-slot', 'data-testid', 'role', 'aria-label', 'name', 'type', 'href', 'placeholder'].forEach(function(a) {" +
+        "    var v = node.getAttribute(a);" +
+        "    if (v && v.length < 80 && !generated(v)) parts.push('[' + a + '=' + q(v) + ']');" +
+        "  });" +
+        "  return parts;" +
+        "}" +
+        "function ownSelectors(node) {" +
+        "  var tag = node.tagName.toLowerCase(), out = [];" +
+        "  if (node.id && !generated(node.id)) out.push('#' + CSS.escape(node.id));" +
+        "  var parts = attrParts(node);" +
+        "  parts.forEach(function(p) { out.push(tag + p); });" +
+        "  for (var i = 0; i < parts.length; i++)" +
+        "    for (var j = i + 1; j < parts.length; j++) out.push(tag + parts[i] + parts[j]);" +
+        "  if (parts.length > 2) out.push(tag + parts.join(''));" +
+        "  return out;" +
+        "}" +
+        "var own = ownSelectors(el);" +
+        "for (var i = 0; i < own.length; i++) if (uniqueCss(own[i])) return 'css:' + own[i];" +
+        "var tag = el.tagName.toLowerCase();" +
+        "var tails = own.length ? own : [tag];" +
+        "var anc = el.parentElement;" +
+        "for (var depth = 0; anc && anc !== document.body && depth < 6; depth++, anc = anc.parentElement) {" +
+        "  var ancSels = ownSelectors(anc);" +
+        "  for (var a = 0; a < ancSels.length; a++) {" +
+        "    if (document.querySelectorAll(ancSels[a]).length !== 1) continue;" +
+        "    for (var t = 0; t < tails.length; t++) {" +
+        "      var sel = ancSels[a] + ' ' + tails[t];" +
+        "      if (uniqueCss(sel)) return 'css:' + sel;" +
+        "    }" +
+        "  }" +
+        "}" +
+        "var text = (el.textContent || '').replace(/\\s+/g, ' ').trim();" +
+        "if (text && text.length <= 60 && text.indexOf(\"'\") < 0) {" +
+        "  var xp = '//' + tag + \"[normalize-space(.)='\" + text + \"']\";" +
+        "  var res = document.evaluate(xp, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "  if (res.snapshotLength === 1 && res.snapshotItem(0) === el) return 'xpath:' + xp;" +
+        "}" +
+        "return null;";
+
+    // True when the "css:"/"xpath:" selector in arguments[1] matches exactly one element, arguments[0]
+    private static final String IDENTIFIES_SCRIPT =
+        "var el = arguments[0], sel = arguments[1];" +
+        "try {" +
+        "  if (sel.indexOf('xpath:') === 0) {" +
+        "    var res = document.evaluate(sel.substring(6), document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "    return res.snapshotLength === 1 && res.snapshotItem(0) === el;" +
+        "  }" +
+        "  var all = document.querySelectorAll(sel.substring(sel.indexOf(':') + 1));" +
+        "  return all.length === 1 && all[0] === el;" +
+        "} catch (e) { return false; }";
+
+    private SelectorCompiler() {
+        // utility class
+    }
+
+    /**
+     * Locate the element for a feature step, preferring its compiled selector, then any extra
+     * strategies, then the XPath given in the feature file
+     */
+    public static WebElement find(WebDriver driver, String stepKey, String xpath, Duration budget,
+                                  LocatorRegistry.Strategy... extraStrategies) {
+        List<LocatorRegistry.Strategy> strategies = new ArrayList<>();
+        String selector;
+        synchronized (compiled) {
+            selector = compiled.getProperty(stepKey);
+        }
+        if (selector != null) {
+            strategies.add(toStrategy(selector));
+        }
+        strategies.addAll(List.of(extraStrategies));
+        strategies.add(LocatorRegistry.Strategy.jsXpath(FEATURE_XPATH, xpath));
+
+        LocatorRegistry.Match match = LocatorRegistry.race(driver, stepKey, budget,
+            strategies.toArray(new LocatorRegistry.Strategy[0]));
+
+        // Another strategy won the race: compile unless the cached selector still finds this element
+        if (!COMPILED.equals(match.strategyName)) {
+            compile(driver, stepKey, match.element);
+        }
+        return match.element;
+    }
+
+    private static void compile(WebDriver driver, String stepKey, WebElement element) {
+        try {
+            String cached;
+            synchronized (compiled) {
+                cached = compiled.getProperty(stepKey);
+            }
+            if (cached != null && identifies(driver, cached, element)) {
+                LocatorRegistry.remember(stepKey, COMPILED);
+                return;
+            }
+
+            Object result = ((JavascriptExecutor) driver).executeScript(COMPILE_SCRIPT, element);
+            if (!(result instanceof String) || !identifies(driver, (String) result, element)) {
+                System.out.println("No stable selector found for " + stepKey + ", keeping the feature XPath");
+                return;
+            }
+            String selector = (String) result;
+            synchronized (compiled) {
+                if (selector.equals(compiled.getProperty(stepKey))) return;
+                compiled.setProperty(stepKey, selector);
+                Files.createDirectories(CACHE_FILE.getParent());
+                try (Writer writer = Files.newBufferedWriter(CACHE_FILE)) {
+                    compiled.store(writer, "Selectors compiled from feature-file XPaths, per step");
+                }
+            }
+            LocatorRegistry.remember(stepKey, COMPILED);
+            System.out.println("Compiled selector for " + stepKey + ": " + selector);
+        } catch (IOException e) {
+            System.err.println("Could not persist compiled selector: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Could not compile selector for " + stepKey + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean identifies(WebDriver driver, String selector, WebElement element) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(IDENTIFIES_SCRIPT, element, selector));
+    }
+
+    private static LocatorRegistry.Strategy toStrategy(String selector) {
+        if (selector.startsWith("xpath:")) {
+            return LocatorRegistry.Strategy.xpath(COMPILED, selector.substring("xpath:".length()));
+        }
+        return LocatorRegistry.Strategy.css(COMPILED, selector.substring(selector.indexOf(':') + 1));
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (Reader reader = Files.newBufferedReader(CACHE_FILE)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                System.err.println("Could not read compiled selector cache: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+}
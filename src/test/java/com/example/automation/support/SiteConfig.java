@@ -0,0 +1,49 @@
+package com.example.automation.support;
+
+import java.net.URI;
+
+/**
+ * Base URL of the Yuba deployment under test, from -Dyuba.baseUrl (default https://yubanow.com), so
+ * the same scenarios can run against staging or a local build. Experiment runners can switch it
+ * between runs in one JVM.
+ */
+public final class SiteConfig {
+
+    public static final String DEFAULT_BASE_URL = "https://yubanow.com";
+
+    // Set by runners that alternate between deployments; takes precedence over -Dyuba.baseUrl
+    private static volatile String override;
+
+    private SiteConfig() {
+        // utility class
+    }
+
+    /**
+     * Base URL without a trailing slash
+     */
+    public static String baseUrl() {
+        String base = override != null ? override : System.getProperty("yuba.baseUrl", DEFAULT_BASE_URL);
+        return base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+    }
+
+    /**
+     * Point the following runs at another deployment; null goes back to -Dyuba.baseUrl
+     */
+    public static void setBaseUrl(String baseUrl) {
+        override = baseUrl;
+    }
+
+    /**
+     * Absolute URL of a path on the site, e.g. url("/choose-workspace")
+     */
+    public static String url(String path) {
+        return baseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    /**
+     * Host name of the site, e.g. "yubanow.com"
+     */
+    public static String host() {
+        return URI.create(baseUrl()).getHost();
+    }
+}
@@ -1,4 +1,4 @@
-@navigation
+@navigation @readonly
 Feature: Yuba Website Navigation and Functionality
   As a user
   I want to navigate and interact with the Yuba website